@@ -0,0 +1,109 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.formulaone.dto.ListingEventsResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session and driver mapping in {@link EventService} over OpenF1-shaped payloads.
+ * The provider is an in-memory stub, so only mapping cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+    @Param({ "24" })
+    public int meetings;
+
+    private EventService eventService;
+    private ExecutorService executor;
+    private JsonNode sessions;
+    private JsonNode firstSession;
+    private F1Provider provider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        sessions = OpenF1Payloads.parse(mapper, OpenF1Payloads.sessionsJson(2024, meetings));
+        firstSession = sessions.get(0);
+        JsonNode drivers = OpenF1Payloads.parse(mapper, OpenF1Payloads.driversJson("9000"));
+
+        provider = new F1Provider() {
+            @Override
+            public JsonNode fetchRawSessions(Integer year, String country, String sessionType) {
+                return sessions;
+            }
+
+            @Override
+            public JsonNode fetchRawDriversForSession(String sessionKey) {
+                return drivers;
+            }
+
+            @Override
+            public JsonNode fetchRawSessionResult(String sessionKey) {
+                return null;
+            }
+
+            @Override
+            public String getName() {
+                return "openf1";
+            }
+        };
+        executor = Executors.newSingleThreadExecutor();
+        eventService = new EventService(new F1ProviderFactory(List.of(provider)), null, null, executor,
+                new EventDriverIndex(), new DriverDictionary(null, null), null, null, null, event -> { }, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void buildResponseForListAPI_allSessions(Blackhole bh) {
+        for (JsonNode session : sessions) {
+            bh.consume(eventService.buildResponseForListAPI(session, provider));
+        }
+    }
+
+    @Benchmark
+    public ListingEventsResponseDto buildResponseForListAPI_single() {
+        return eventService.buildResponseForListAPI(firstSession, provider);
+    }
+
+    @Benchmark
+    public Instant parseStartTime() {
+        return eventService.parseStartTime(firstSession);
+    }
+
+    @Benchmark
+    public void textOrNull(Blackhole bh) {
+        bh.consume(EventService.textOrNull(firstSession, "session_name"));
+        bh.consume(EventService.textOrNull(firstSession, "country_name"));
+        bh.consume(EventService.textOrNull(firstSession, "circuit_short_name"));
+        bh.consume(EventService.textOrNull(firstSession, "missing_key"));
+    }
+}
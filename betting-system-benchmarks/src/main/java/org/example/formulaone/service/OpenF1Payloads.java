@@ -0,0 +1,115 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Deterministic payloads shaped like real OpenF1 /v1/sessions and /v1/drivers responses.
+ */
+public final class OpenF1Payloads {
+    private static final String[][] DRIVERS = {
+            { "1", "Max VERSTAPPEN", "Red Bull Racing", "NED" },
+            { "11", "Sergio PEREZ", "Red Bull Racing", "MEX" },
+            { "44", "Lewis HAMILTON", "Mercedes", "GBR" },
+            { "63", "George RUSSELL", "Mercedes", "GBR" },
+            { "16", "Charles LECLERC", "Ferrari", "MON" },
+            { "55", "Carlos SAINZ", "Ferrari", "ESP" },
+            { "4", "Lando NORRIS", "McLaren", "GBR" },
+            { "81", "Oscar PIASTRI", "McLaren", "AUS" },
+            { "14", "Fernando ALONSO", "Aston Martin", "ESP" },
+            { "18", "Lance STROLL", "Aston Martin", "CAN" },
+            { "10", "Pierre GASLY", "Alpine", "FRA" },
+            { "31", "Esteban OCON", "Alpine", "FRA" },
+            { "23", "Alexander ALBON", "Williams", "THA" },
+            { "2", "Logan SARGEANT", "Williams", "USA" },
+            { "22", "Yuki TSUNODA", "RB", "JPN" },
+            { "3", "Daniel RICCIARDO", "RB", "AUS" },
+            { "77", "Valtteri BOTTAS", "Kick Sauber", "FIN" },
+            { "24", "Zhou GUANYU", "Kick Sauber", "CHN" },
+            { "20", "Kevin MAGNUSSEN", "Haas F1 Team", "DEN" },
+            { "27", "Nico HULKENBERG", "Haas F1 Team", "GER" },
+    };
+    private static final String[][] MEETINGS = {
+            { "Bahrain", "Sakhir" }, { "Saudi Arabia", "Jeddah" }, { "Australia", "Melbourne" },
+            { "Japan", "Suzuka" }, { "China", "Shanghai" }, { "United States", "Miami" },
+            { "Italy", "Imola" }, { "Monaco", "Monte Carlo" }, { "Canada", "Montreal" },
+            { "Spain", "Catalunya" }, { "Austria", "Spielberg" }, { "United Kingdom", "Silverstone" },
+    };
+    private static final String[][] SESSIONS = {
+            { "Practice 1", "Practice" }, { "Practice 2", "Practice" }, { "Practice 3", "Practice" },
+            { "Qualifying", "Qualifying" }, { "Race", "Race" },
+    };
+
+    private OpenF1Payloads() {}
+
+    /**
+     * Sessions for {@code meetings} race weekends of the given year, five sessions each.
+     */
+    public static String sessionsJson(int year, int meetings) {
+        StringBuilder sb = new StringBuilder("[");
+        Instant weekend = Instant.parse(year + "-03-01T11:30:00Z");
+        int sessionKey = 9000;
+        for (int m = 0; m < meetings; m++) {
+            String[] meeting = MEETINGS[m % MEETINGS.length];
+            for (int s = 0; s < SESSIONS.length; s++) {
+                Instant start = weekend.plus(s * 8L, ChronoUnit.HOURS);
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                sb.append("{\"meeting_key\":").append(1200 + m)
+                        .append(",\"session_key\":").append(sessionKey++)
+                        .append(",\"location\":\"").append(meeting[1])
+                        .append("\",\"date_start\":\"").append(start.atOffset(ZoneOffset.UTC))
+                        .append("\",\"date_end\":\"").append(start.plus(1, ChronoUnit.HOURS).atOffset(ZoneOffset.UTC))
+                        .append("\",\"session_type\":\"").append(SESSIONS[s][1])
+                        .append("\",\"session_name\":\"").append(SESSIONS[s][0])
+                        .append("\",\"country_key\":").append(10 + m)
+                        .append(",\"country_code\":\"").append(meeting[0], 0, 3).append('"')
+                        .append(",\"country_name\":\"").append(meeting[0])
+                        .append("\",\"circuit_key\":").append(60 + m)
+                        .append(",\"circuit_short_name\":\"").append(meeting[1])
+                        .append("\",\"gmt_offset\":\"00:00:00\",\"year\":").append(year).append('}');
+            }
+            weekend = weekend.plus(14, ChronoUnit.DAYS);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * The full 20-driver grid for one session.
+     */
+    public static String driversJson(String sessionKey) {
+        StringBuilder sb = new StringBuilder("[");
+        for (String[] d : DRIVERS) {
+            String[] names = d[1].split(" ");
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append("{\"meeting_key\":1229,\"session_key\":").append(sessionKey)
+                    .append(",\"driver_number\":").append(d[0])
+                    .append(",\"broadcast_name\":\"").append(names[0].charAt(0)).append(' ').append(names[1])
+                    .append("\",\"full_name\":\"").append(d[1])
+                    .append("\",\"name_acronym\":\"").append(names[1], 0, 3)
+                    .append("\",\"team_name\":\"").append(d[2])
+                    .append("\",\"team_colour\":\"3671C6\",\"first_name\":\"").append(names[0])
+                    .append("\",\"last_name\":\"").append(names[1])
+                    .append("\",\"headshot_url\":\"https://media.formula1.com/d_driver_fallback_image.png/content/")
+                    .append(names[1].toLowerCase()).append(".png\",\"country_code\":\"").append(d[3]).append("\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    public static JsonNode parse(ObjectMapper mapper, String json) {
+        try {
+            return mapper.readTree(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.formulaone.service;
+
+import org.example.formulaone.entity.Bet;
+import org.example.formulaone.util.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payout computation and aggregation as done by {@link SettlementService#settleEvent}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SettlementServiceBenchmark {
+    @Param({ "10000" })
+    public int bets;
+
+    private Bet[] pending;
+    private int winner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] grid = { 1, 11, 44, 63, 16, 55, 4, 81, 14, 18 };
+        pending = new Bet[bets];
+        for (int i = 0; i < bets; i++) {
+            Bet bet = new Bet();
+            bet.setId(UUID.randomUUID());
+            bet.setUserId(UUID.randomUUID());
+            bet.setEventId("9000");
+            bet.setDriverId(grid[random.nextInt(grid.length)]);
+            bet.setStake(Money.ofMinor(100 + random.nextInt(10_000)));
+            bet.setOdds(2 + random.nextInt(3));
+            pending[i] = bet;
+        }
+        winner = grid[0];
+    }
+
+    @Benchmark
+    public long calculatePayout_aggregate() {
+        long total = 0;
+        for (Bet bet : pending) {
+            if (bet.getDriverId() == winner) {
+                total = Math.addExact(total, SettlementService.calculatePayout(bet));
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON parsing in {@link WebClientHttpClient#getJson}. The network call is replaced with a canned
+ * body so the benchmark isolates parsing cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebClientHttpClientBenchmark {
+    private WebClientHttpClient sessionsClient;
+    private WebClientHttpClient driversClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionsClient = cannedClient(OpenF1Payloads.sessionsJson(2024, 24));
+        driversClient = cannedClient(OpenF1Payloads.driversJson("9000"));
+    }
+
+    @Benchmark
+    public JsonNode getJson_sessions() {
+        return sessionsClient.getJson("https://api.openf1.org/v1/sessions", Map.of("year", "2024"));
+    }
+
+    @Benchmark
+    public JsonNode getJson_drivers() {
+        return driversClient.getJson("https://api.openf1.org/v1/drivers", Map.of("session_key", "9000"));
+    }
+
+    private static WebClientHttpClient cannedClient(String body) {
+        return new WebClientHttpClient(WebClient.builder(), new ObjectMapper()) {
+            @Override
+            public String get(String url, Map<String, String> queryParams) {
+                return body;
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.formulaone.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link RandomOdds#pick()}, single-threaded and contended.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomOddsBenchmark {
+
+    @Benchmark
+    public int pick() {
+        return RandomOdds.pick();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int pick_4threads() {
+        return RandomOdds.pick();
+    }
+}
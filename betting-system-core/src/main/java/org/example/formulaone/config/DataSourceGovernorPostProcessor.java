@@ -0,0 +1,54 @@
+package org.example.formulaone.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every connection pool DataSource bean in a {@link GovernedDataSource}.
+ * Permits default to the pool's size so callers never queue inside the pool itself.
+ * Wrappers and routers (e.g. the read-replica router) are left alone; the pools behind them are governed.
+ * The replica pool gets its own short acquire timeout, so a saturated replica falls back to the primary
+ * quickly instead of queueing reads for the primary's timeout.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "betting.db-governor.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceGovernorPostProcessor implements BeanPostProcessor, EnvironmentAware {
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource
+                || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+
+        int poolSize = bean instanceof HikariDataSource hikari
+                ? hikari.getMaximumPoolSize()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        // max-concurrent caps every governed pool; it can only lower the permits below the pool size
+        int permits = Math.min(poolSize,
+                environment.getProperty("betting.db-governor.max-concurrent", Integer.class, poolSize));
+        long acquireTimeoutMs = "replicaDataSource".equals(beanName)
+                ? environment.getProperty("betting.datasource.replica.governor.acquire-timeout-ms", Long.class, 2000L)
+                : environment.getProperty("betting.db-governor.acquire-timeout-ms", Long.class, 120000L);
+
+        log.info("Governing DataSource '{}' with {} permits (acquire timeout {} ms)", beanName, permits,
+                acquireTimeoutMs);
+        return new GovernedDataSource(dataSource, permits, acquireTimeoutMs);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.formulaone.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for blocking work off the request path: calls to external F1 data providers, the member calls
+ * the composite provider makes on their behalf, and writes to stream subscribers. Each uses one virtual
+ * thread per task when virtual threads are enabled, otherwise a small fixed pool.
+ */
+@Configuration
+public class ProviderExecutorConfig {
+
+    @Bean(name = "providerExecutor", destroyMethod = "shutdown")
+    public ExecutorService providerExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${openf1.platform-threads:4}") int platformThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("provider-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads, Thread.ofPlatform().name("provider-", 0).factory());
+    }
+
+    /**
+     * Runs composite member calls. Kept apart from {@code providerExecutor}, whose tasks block waiting for these
+     * calls: sharing one fixed pool would let the outer tasks take every thread and wait forever.
+     */
+    @Bean(name = "providerMemberExecutor", destroyMethod = "shutdown")
+    public ExecutorService providerMemberExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${openf1.composite.platform-threads:8}") int platformThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("provider-member-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads,
+                Thread.ofPlatform().name("provider-member-", 0).factory());
+    }
+
+    @Bean(name = "streamExecutor", destroyMethod = "shutdown")
+    public ExecutorService streamExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${betting.stream.platform-threads:4}") int platformThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stream-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads, Thread.ofPlatform().name("stream-", 0).factory());
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.formulaone.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client profile for provider traffic.
+ * Spring Boot applies a {@link ClientHttpConnector} bean to every {@code WebClient.Builder}, so
+ * {@code WebClientHttpClient} picks this up without changes.
+ *
+ * Connections are pooled and kept alive (fewer TLS handshakes), every call has connect, read and
+ * response timeouts, responses are requested gzip-compressed, and HTTP/2 is negotiated over TLS
+ * where the server supports it. Pool metrics are published as {@code reactor.netty.connection.provider.*}.
+ */
+@Configuration
+public class ProviderHttpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider providerConnectionProvider(
+            @Value("${openf1.http.max-connections:50}") int maxConnections,
+            @Value("${openf1.http.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${openf1.http.max-idle-ms:30000}") long maxIdleMs,
+            @Value("${openf1.http.max-life-ms:300000}") long maxLifeMs) {
+        return ConnectionProvider.builder("openf1")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector providerClientHttpConnector(ConnectionProvider providerConnectionProvider,
+            @Value("${openf1.timeout:5000}") int timeoutMs,
+            @Value("${openf1.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${openf1.http.compress:true}") boolean compress) {
+        HttpClient httpClient = HttpClient.create(providerConnectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(timeoutMs))
+                .doOnConnected(conn -> conn.addHandlerLast(new ReadTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS)))
+                .compress(compress);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
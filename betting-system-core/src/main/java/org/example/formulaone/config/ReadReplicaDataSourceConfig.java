@@ -0,0 +1,71 @@
+package org.example.formulaone.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary and replica connection pools behind a read/write router, enabled when
+ * {@code betting.datasource.replica.url} is set. Without it the single auto-configured
+ * {@code spring.datasource} pool is used as before.
+ *
+ * The replica pool is configured under {@code betting.datasource.replica} (url, username, password,
+ * driver-class-name, and {@code hikari.*} pool settings); anything left out is taken from {@code spring.datasource}.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "betting.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("betting.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary,
+            @Value("${betting.datasource.replica.url}") String url,
+            @Value("${betting.datasource.replica.username:}") String username,
+            @Value("${betting.datasource.replica.password:}") String password,
+            @Value("${betting.datasource.replica.driver-class-name:}") String driverClassName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username.isEmpty() ? primary.determineUsername() : username)
+                .password(password.isEmpty() ? primary.determinePassword() : password)
+                .driverClassName(driverClassName.isEmpty() ? primary.determineDriverClassName() : driverClassName)
+                .build();
+        dataSource.setPoolName("replica");
+        // A replica never takes writes
+        dataSource.setReadOnly(true);
+        log.info("Routing read-only transactions to replica {}", url);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, MeterRegistry meterRegistry) {
+        Counter fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because the replica was unavailable")
+                .register(meterRegistry);
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replica, fallbacks));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.formulaone.config;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Routes connections for read-only transactions to the replica pool and everything else to the primary.
+ * If the replica cannot hand out a connection, the read falls back to the primary.
+ *
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag is only
+ * known once the transaction has begun, after the transaction manager would normally have fetched
+ * its connection.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final Counter fallbacks;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Counter fallbacks) {
+        this.primary = primary;
+        this.fallbacks = fallbacks;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return primary.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException ex) {
+            log.warn("Replica unavailable, reading from primary: {}", ex.getMessage());
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+}
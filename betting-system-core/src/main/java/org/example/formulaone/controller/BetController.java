@@ -1,13 +1,17 @@
 package org.example.formulaone.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.exceptions.ServiceOverloadedException;
 import org.example.formulaone.util.Constants;
 import org.example.formulaone.dto.PlaceBetRequestDto;
 import org.example.formulaone.dto.PlaceBetResponseDto;
+import org.example.formulaone.service.BetAdmissionLimiter;
 import org.example.formulaone.service.BettingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,18 +24,26 @@ import jakarta.validation.Valid;
 @Slf4j
 public class BetController {
     private final BettingService bettingService;
+    private final BetAdmissionLimiter admissionLimiter;
 
     @Autowired
-    public BetController(BettingService bettingService) {
+    public BetController(BettingService bettingService, BetAdmissionLimiter admissionLimiter) {
         this.bettingService = bettingService;
+        this.admissionLimiter = admissionLimiter;
     }
 
+    /**
+     * Places a bet. Admission is limited adaptively: over the limit the request fails fast with 503
+     * (or 429 when its event has used up its share) and a {@code Retry-After} header.
+     */
     @PostMapping("/place")
     public ResponseEntity<PlaceBetResponseDto> placeBet(@Valid @RequestBody PlaceBetRequestDto placeBetRequestDto) {
-        log.info("Received bet placement request for user: {}", placeBetRequestDto.getUserId());
+        log.debug("Received bet placement request for user: {}", placeBetRequestDto.getUserId());
 
+        BetAdmissionLimiter.Permit permit = admissionLimiter.acquire(placeBetRequestDto.getEventId());
+        boolean overloaded = false;
         try {
-            PlaceBetResponseDto response = bettingService.placeBet(placeBetRequestDto);
+            PlaceBetResponseDto response = bettingService.placeBet(placeBetRequestDto, permit);
 
             if (Constants.BET_STATUS_FAILED.equals(response.getStatus())) {
                 log.warn("Bet placement failed for user: {}, reason: {}",
@@ -39,16 +51,24 @@ public class BetController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            log.info("Bet placed successfully for user: {}, bet ID: {}",
+            log.debug("Bet placed successfully for user: {}, bet ID: {}",
                     placeBetRequestDto.getUserId(), response.getBetId());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             log.error("Invalid bet request: {}", e.getMessage());
             return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        } catch (ServiceOverloadedException | CannotCreateTransactionException | TransientDataAccessException e) {
+            // Shed load or no connection in time: a congestion signal for the limiter
+            overloaded = true;
+            throw e; // 503 via ApiExceptionHandler
         } catch (Exception e) {
             log.error("Unexpected error during bet placement: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(createErrorResponse("Internal server error"));
+        } finally {
+            if (permit != null) {
+                permit.release(overloaded);
+            }
         }
     }
 
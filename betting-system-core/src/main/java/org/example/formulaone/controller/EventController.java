@@ -1,23 +1,30 @@
 package org.example.formulaone.controller;
 
 import lombok.extern.slf4j.Slf4j;
-import org.example.formulaone.dto.ListingEventsResponseDto;
+import org.example.formulaone.dto.CatalogChangesPageDto;
 import org.example.formulaone.dto.OutcomeRequestDto;
 import org.example.formulaone.dto.OutcomeResponseDto;
+import org.example.formulaone.service.CatalogChangeService;
 import org.example.formulaone.service.EventService;
+import org.example.formulaone.service.ListingCache;
 import org.example.formulaone.service.SettlementService;
+import org.example.formulaone.stream.StreamPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
-import java.util.List;
 
 /**
  * REST controller for managing Formula 1 events and outcomes.
@@ -29,31 +36,86 @@ import java.util.List;
 public class EventController {
     private final EventService eventService;
     private final SettlementService settlementService;
+    private final CatalogChangeService catalogChangeService;
+    private final StreamPublisher streamPublisher;
 
     @Autowired
-    public EventController(final EventService eventService, final SettlementService settlementService) {
+    public EventController(final EventService eventService, final SettlementService settlementService,
+            final CatalogChangeService catalogChangeService, final StreamPublisher streamPublisher) {
         this.eventService = eventService;
         this.settlementService = settlementService;
+        this.catalogChangeService = catalogChangeService;
+        this.streamPublisher = streamPublisher;
     }
 
     /**
      * Retrieves a list of Formula 1 events based on optional filters.
+     * The body is served pre-serialized with a strong ETag; a matching {@code If-None-Match} gets
+     * 304 Not Modified, and clients accepting gzip get the pre-compressed body.
      *
-     * @param year        The year to filter events (optional)
-     * @param country     The country to filter events (optional)
-     * @param sessionType The type of session to filter (optional)
-     * @param provider    The data provider to use (defaults to "openf1")
-     * @return List of events matching the criteria
+     * @param year           The year to filter events (optional)
+     * @param country        The country to filter events (optional)
+     * @param sessionType    The type of session to filter (optional)
+     * @param provider       The data provider to use (defaults to {@code openf1.default-provider})
+     * @param ifNoneMatch    ETag of a listing the client already has (optional)
+     * @param acceptEncoding Encodings the client accepts (optional)
+     * @return List of events matching the criteria, as JSON
      */
     @GetMapping("/list")
-    public ResponseEntity<List<ListingEventsResponseDto>> listEvents(
+    public ResponseEntity<byte[]> listEvents(
             @RequestParam(value = "year", required = false) Integer year,
             @RequestParam(value = "country", required = false) String country,
             @RequestParam(value = "sessionType", required = false) String sessionType,
-            @RequestParam(value = "provider", defaultValue = "openf1") String provider) {
+            @RequestParam(value = "provider", required = false) String provider,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        List<ListingEventsResponseDto> events = eventService.listEvents(year, country, sessionType, provider);
-        return ResponseEntity.ok(events);
+        ListingCache.Entry listing = eventService.listEventsSerialized(year, country, sessionType, provider);
+        boolean gzip = listing.gzip() != null && acceptsGzip(acceptEncoding);
+        if (listing.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(gzip ? listing.gzipEtag() : listing.etag())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(gzip ? listing.gzipEtag() : listing.etag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(listing.gzip());
+        }
+        return response.body(listing.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // gzip;q=0 means "not acceptable"
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns catalog changes (new events, new driver odds and outcomes) after the given version, oldest first.
+     * Clients keep the returned {@code version} and pass it as {@code since} on the next call.
+     *
+     * @param since Last version the client has seen (0 for the full history)
+     * @param limit Maximum number of changes to return (default 500)
+     * @return The changes, the version to continue from and whether more are waiting
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<CatalogChangesPageDto> getChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return ResponseEntity.ok(catalogChangeService.getChanges(since, limit));
     }
 
     /**
@@ -70,4 +132,28 @@ public class EventController {
         OutcomeResponseDto response = settlementService.settleEvent(eventId, outcomeRequest);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Returns the progress of a settlement queued for the distributed settlement workers.
+     *
+     * @param eventId The ID of the settled event
+     * @return Bets settled and payout so far, with QUEUED, IN_PROGRESS or COMPLETED status
+     */
+    @GetMapping("/{eventId}/settlement")
+    public ResponseEntity<OutcomeResponseDto> getSettlement(@PathVariable("eventId") String eventId) {
+        return ResponseEntity.ok(settlementService.getSettlement(eventId));
+    }
+
+    /**
+     * Streams odds and outcome updates for an event as Server-Sent Events
+     * ({@code odds} and {@code outcome} events).
+     *
+     * @param eventId The ID of the event to follow
+     * @return The event stream
+     */
+    @GetMapping(value = "/{eventId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvent(@PathVariable("eventId") String eventId) {
+        eventService.requireEvent(eventId);
+        return streamPublisher.subscribeEvent(eventId);
+    }
 }
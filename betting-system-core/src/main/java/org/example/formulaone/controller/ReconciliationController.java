@@ -0,0 +1,36 @@
+package org.example.formulaone.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.ReconciliationReportDto;
+import org.example.formulaone.service.LedgerReconciliationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for ledger checks.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/reconciliation")
+public class ReconciliationController {
+    private final LedgerReconciliationService reconciliationService;
+
+    @Autowired
+    public ReconciliationController(final LedgerReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    /**
+     * Reconciles every user's balance against their bets and reports the users that do not match.
+     * Returns 409 while another reconciliation is running.
+     *
+     * @return The reconciliation report
+     */
+    @PostMapping
+    public ResponseEntity<ReconciliationReportDto> reconcile() {
+        return ResponseEntity.ok(reconciliationService.reconcile());
+    }
+}
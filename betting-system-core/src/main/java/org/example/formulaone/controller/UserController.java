@@ -0,0 +1,64 @@
+package org.example.formulaone.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.BetHistoryPageDto;
+import org.example.formulaone.service.BetHistoryService;
+import org.example.formulaone.stream.StreamPublisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * REST controller for per-user views of bets.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/users")
+public class UserController {
+    private final BetHistoryService betHistoryService;
+    private final StreamPublisher streamPublisher;
+
+    @Autowired
+    public UserController(final BetHistoryService betHistoryService, final StreamPublisher streamPublisher) {
+        this.betHistoryService = betHistoryService;
+        this.streamPublisher = streamPublisher;
+    }
+
+    /**
+     * Retrieves a page of the user's bets, newest first.
+     *
+     * @param userId The ID of the user
+     * @param status Bet status to filter by: PENDING, WON or LOST (optional)
+     * @param cursor The nextCursor of the previous page (optional)
+     * @param limit  Page size (default 50)
+     * @return The page and the cursor for the next one
+     */
+    @GetMapping("/{userId}/bets")
+    public ResponseEntity<BetHistoryPageDto> getBets(
+            @PathVariable("userId") UUID userId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(betHistoryService.getUserBets(userId, status, cursor, limit));
+    }
+
+    /**
+     * Streams status changes of the user's bets as Server-Sent Events ({@code bet} events),
+     * pushed when their event is settled.
+     *
+     * @param userId The ID of the user
+     * @return The event stream
+     */
+    @GetMapping(value = "/{userId}/bets/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBets(@PathVariable("userId") UUID userId) {
+        return streamPublisher.subscribeUser(userId);
+    }
+}
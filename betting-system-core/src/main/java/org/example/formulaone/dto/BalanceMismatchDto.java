@@ -0,0 +1,20 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BalanceMismatchDto {
+    private UUID userId;
+    // Gift balance - all stakes + payouts of won bets
+    private BigDecimal expectedBalance;
+    // Null if the user has bets but no users row
+    private BigDecimal actualBalance;
+    private long bets;
+}
@@ -0,0 +1,23 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BetHistoryDto {
+    private UUID betId;
+    private String eventId;
+    private Integer driverId;
+    private BigDecimal stake;
+    private Integer odds;
+    private String status;
+    private Instant placedAt;
+    private Instant settledAt;
+}
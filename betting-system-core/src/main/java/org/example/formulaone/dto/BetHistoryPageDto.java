@@ -0,0 +1,16 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BetHistoryPageDto {
+    private List<BetHistoryDto> bets;
+    // Pass as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BetStatusUpdateDto {
+    private UUID betId;
+    private UUID userId;
+    private String eventId;
+    private Integer driverId;
+    private String status;
+    private BigDecimal payout;
+    private Instant settledAt;
+}
@@ -0,0 +1,25 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CatalogChangeDto {
+    private long version;
+    // event, odds or outcome
+    private String type;
+    private String eventId;
+    private Instant changedAt;
+    // Set for "event": the new event, without drivers
+    private ListingEventsResponseDto event;
+    // Set for "odds": the drivers added to the event
+    private List<DriverDto> drivers;
+    // Set for "outcome"
+    private Integer winnerDriverId;
+}
@@ -0,0 +1,17 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CatalogChangesPageDto {
+    private List<CatalogChangeDto> changes;
+    // Pass as ?since= on the next call
+    private long version;
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class EventUpdateDto {
+    public static final String TYPE_ODDS = "odds";
+    public static final String TYPE_OUTCOME = "outcome";
+
+    private String eventId;
+    private String type;
+    private Integer winnerDriverId;
+    private List<DriverDto> drivers;
+}
@@ -14,4 +14,6 @@ public class OutcomeResponseDto {
     private Integer winnerDriverId;
     private int betsSettled;
     private BigDecimal totalPayout;
+    // COMPLETED, or QUEUED/IN_PROGRESS when settled by the distributed workers
+    private String settlementStatus;
 }
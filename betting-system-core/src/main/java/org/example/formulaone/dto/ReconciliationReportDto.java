@@ -0,0 +1,22 @@
+package org.example.formulaone.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ReconciliationReportDto {
+    private Instant startedAt;
+    private long durationMs;
+    private int partitions;
+    private long usersChecked;
+    private long betsScanned;
+    private long mismatchCount;
+    // At most betting.reconciliation.max-reported entries; mismatchCount has the full count
+    private List<BalanceMismatchDto> mismatches;
+}
@@ -1,26 +1,55 @@
 package org.example.formulaone.entity;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.example.formulaone.util.Money;
+import org.springframework.data.domain.Persistable;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
+// idx_bets_user_placed (the covering history index) is created by migration V5
 @Table(name = "bets")
 @Data
-public class Bet {
+public class Bet implements Persistable<UUID> {
     @Id
     private UUID id;
     private UUID userId;
     private String eventId;
     private Integer driverId;
-    private BigDecimal stake;
+    @Convert(converter = MoneyConverter.class)
+    @Column(precision = 19, scale = 2)
+    private Money stake;
     private Integer odds;
     private String status;
     private Instant placedAt = Instant.now();
     private Instant settledAt;
+
+    // Bet IDs are assigned by the application, so tell Spring Data whether to persist or merge;
+    // otherwise every insert is preceded by a SELECT
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
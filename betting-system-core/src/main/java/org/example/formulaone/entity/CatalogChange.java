@@ -0,0 +1,63 @@
+package org.example.formulaone.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * One entry of the catalog change log. {@code version} increases with every change in commit order, so once a
+ * version is visible every lower one is too; clients sync by asking for the changes after the last version they
+ * have seen. Version and {@code changedAt} are assigned by {@code CatalogChangeLog} as the transaction commits.
+ */
+@Entity
+@Table(name = "catalog_changes")
+@Data
+@NoArgsConstructor
+public class CatalogChange implements Persistable<Long> {
+    @Id
+    private Long version;
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+    @Column(name = "change_type", nullable = false)
+    private String changeType;
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    // Versions are assigned by the application; without this every save would be preceded by a SELECT
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    public CatalogChange(String eventId, String changeType) {
+        this.eventId = eventId;
+        this.changeType = changeType;
+    }
+
+    @Override
+    public Long getId() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
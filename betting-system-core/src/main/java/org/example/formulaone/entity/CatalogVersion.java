@@ -0,0 +1,23 @@
+package org.example.formulaone.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter handing out catalog change versions. Its row lock is taken just before commit,
+ * so versions are assigned in commit order.
+ */
+@Entity
+@Table(name = "catalog_version")
+@Data
+@NoArgsConstructor
+public class CatalogVersion {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+    private long version;
+}
@@ -0,0 +1,26 @@
+package org.example.formulaone.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A driver, keyed by race number. Event drivers reference it and only store the odds.
+ */
+@Entity
+@Table(name = "drivers")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Driver {
+    @Id
+    private Integer id; // driver number
+    @Column(name = "full_name")
+    private String fullName;
+    private String country;
+    private String team;
+}
@@ -1,22 +1,55 @@
 package org.example.formulaone.entity;
 
+import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Transient;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 @Entity
-@Table(name = "event_drivers", uniqueConstraints = {
-        @UniqueConstraint(columnNames = { "eventId", "driverId" })
-})
+@Table(name = "event_drivers")
 @Data
-public class EventDriver {
-    // composite key
-    @Id
-    private String id;
-    private String eventId;
-    private Integer driverId;
-    private String fullName;
+@NoArgsConstructor
+public class EventDriver implements Persistable<EventDriverId> {
+    // composite key (event_id, driver_id)
+    @EmbeddedId
+    private EventDriverId id;
+    // names live in the drivers table (see DriverDictionary)
     private Integer odds;
+
+    // The key is assigned by the application, so save() would merge; a merge would silently overwrite
+    // odds stored by a concurrent request instead of failing on the primary key
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    public EventDriver(String eventId, Integer driverId) {
+        this.id = new EventDriverId(eventId, driverId);
+    }
+
+    public String getEventId() {
+        return id != null ? id.getEventId() : null;
+    }
+
+    public Integer getDriverId() {
+        return id != null ? id.getDriverId() : null;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
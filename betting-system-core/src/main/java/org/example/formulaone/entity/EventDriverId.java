@@ -0,0 +1,24 @@
+package org.example.formulaone.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite primary key of {@link EventDriver}: the event plus the driver number.
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class EventDriverId implements Serializable {
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "driver_id", nullable = false)
+    private int driverId;
+}
@@ -0,0 +1,40 @@
+package org.example.formulaone.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.example.formulaone.util.Money;
+
+import java.time.Instant;
+
+/**
+ * One queued settlement per event. Workers on any node claim chunks of the event's pending bets;
+ * the job is DONE once no pending bets remain, and its totals are recorded from the settled bets then.
+ */
+@Entity
+@Table(name = "settlement_jobs")
+@Data
+public class SettlementJob {
+    public static final String STATUS_OPEN = "OPEN";
+    public static final String STATUS_DONE = "DONE";
+
+    @Id
+    @Column(name = "event_id")
+    private String eventId;
+    @Column(name = "winner_driver_id", nullable = false)
+    private Integer winnerDriverId;
+    @Column(nullable = false)
+    private String status = STATUS_OPEN;
+    @Column(name = "bets_settled", nullable = false)
+    private int betsSettled;
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "total_payout", precision = 19, scale = 2, nullable = false)
+    private Money totalPayout = Money.ZERO;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt = Instant.now();
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -1,12 +1,13 @@
 package org.example.formulaone.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Data;
+import org.example.formulaone.util.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -19,14 +20,15 @@ public class User {
 
     private String name;
 
-    @Column(nullable = false)
-    private BigDecimal balance;
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money balance;
 
     @Column(nullable = false)
     private Instant createdAt = Instant.now();
 
     public User() {}
-    public User(UUID id, BigDecimal balance) {
+    public User(UUID id, Money balance) {
         this.id = id; this.balance = balance;
     }
 }
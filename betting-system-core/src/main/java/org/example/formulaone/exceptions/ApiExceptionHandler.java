@@ -1,9 +1,13 @@
 package org.example.formulaone.exceptions;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +24,11 @@ import java.util.Map;
 @ControllerAdvice
 @Slf4j
 public class ApiExceptionHandler {
+    private final long retryAfterSeconds;
+
+    public ApiExceptionHandler(@Value("${betting.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
 
     /**
      * Handle validation errors (400) - Invalid arguments, missing fields.
@@ -65,6 +74,39 @@ public class ApiExceptionHandler {
         return buildResponse(HttpStatus.BAD_GATEWAY, "External API error", request);
     }
 
+    /**
+     * Handle load shedding (503) - Work queues are full or the concurrency limit is reached.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverloaded(
+            ServiceOverloadedException ex, WebRequest request) {
+        log.debug("Overloaded at {}: {}", request.getDescription(false), ex.getMessage());
+        return withRetryAfter(buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request),
+                ex.getRetryAfterSeconds());
+    }
+
+    /**
+     * Handle per-event load shedding (429) - One event has used up its share of the concurrency limit.
+     */
+    @ExceptionHandler(EventOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleEventOverloaded(
+            EventOverloadedException ex, WebRequest request) {
+        log.debug("Event overloaded at {}: {}", request.getDescription(false), ex.getMessage());
+        return withRetryAfter(buildResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request),
+                ex.getRetryAfterSeconds());
+    }
+
+    /**
+     * Handle database congestion (503) - No connection or transaction could be obtained in time.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, TransientDataAccessException.class})
+    public ResponseEntity<Map<String, Object>> handleDatabaseUnavailable(
+            RuntimeException ex, WebRequest request) {
+        log.warn("Database unavailable at {}: {}", request.getDescription(false), ex.getMessage());
+        return withRetryAfter(buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service busy, retry shortly", request),
+                0);
+    }
+
     /**
      * Handle database integrity violations (409) - Constraint violations.
      */
@@ -85,6 +127,13 @@ public class ApiExceptionHandler {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", request);
     }
 
+    private ResponseEntity<Map<String, Object>> withRetryAfter(ResponseEntity<Map<String, Object>> response,
+            long seconds) {
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds > 0 ? seconds : retryAfterSeconds))
+                .body(response.getBody());
+    }
+
     /**
      * Helper method to build consistent error response JSON.
      */
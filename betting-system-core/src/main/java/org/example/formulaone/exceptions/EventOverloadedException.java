@@ -0,0 +1,11 @@
+package org.example.formulaone.exceptions;
+
+/**
+ * Thrown when a single event has used up its share of the admission limit.
+ * Answered with 429, so clients of other events are not told the whole service is down.
+ */
+public class EventOverloadedException extends ServiceOverloadedException {
+    public EventOverloadedException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.formulaone.exceptions;
+
+/**
+ * Thrown when the service sheds load instead of queueing more work.
+ * Answered with 503 and a {@code Retry-After} header; without an explicit delay the header carries
+ * {@code betting.admission.retry-after-seconds}.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message) {
+        this(message, 0);
+    }
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Seconds for the {@code Retry-After} header, or 0 to use the configured default.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
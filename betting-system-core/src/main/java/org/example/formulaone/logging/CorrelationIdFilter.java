@@ -0,0 +1,56 @@
+package org.example.formulaone.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tags every request with a correlation ID (taken from {@code X-Correlation-Id} or generated)
+ * and decides once per request whether its DEBUG detail is sampled.
+ * Both values go into the MDC; {@link SampledDebugTurboFilter} reads the sampling flag.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_CORRELATION_ID = "correlationId";
+    public static final String MDC_SAMPLED = "logSampled";
+
+    private final double sampleRate;
+
+    public CorrelationIdFilter(@Value("${logging.sampling.rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String correlationId = request.getHeader(HEADER);
+        if (correlationId == null || correlationId.isBlank() || correlationId.length() > 64) {
+            correlationId = UUID.randomUUID().toString();
+        }
+
+        MDC.put(MDC_CORRELATION_ID, correlationId);
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            MDC.put(MDC_SAMPLED, "true");
+        }
+        response.setHeader(HEADER, correlationId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_CORRELATION_ID);
+            MDC.remove(MDC_SAMPLED);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.formulaone.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Lets DEBUG events from application loggers through for sampled requests only,
+ * even when the logger itself is at INFO. Everything else falls through to the normal level check.
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+    private String loggerPrefix = "org.example.formulaone";
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "true".equals(MDC.get(CorrelationIdFilter.MDC_SAMPLED)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
@@ -1,11 +1,52 @@
 package org.example.formulaone.repository;
 
 import org.example.formulaone.entity.Bet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface BetRepository extends JpaRepository<Bet, UUID> {
     List<Bet> findByEventIdAndStatus(String eventId, String status);
+
+    long countByEventIdAndStatusIn(String eventId, Collection<String> statuses);
+
+    /**
+     * Total payout of the event's won bets so far (stake x odds).
+     */
+    @Query(value = "select coalesce(sum(stake * odds), 0) from bets where event_id = :eventId and status = 'WON'",
+            nativeQuery = true)
+    BigDecimal sumWonPayout(@Param("eventId") String eventId);
+
+    /**
+     * Locks up to {@code limit} pending bets of the event, skipping rows already locked by other workers,
+     * so concurrent workers on any node always claim disjoint chunks.
+     */
+    @Query(value = "select * from bets where event_id = :eventId and status = 'PENDING' " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<Bet> claimPendingChunk(@Param("eventId") String eventId, @Param("limit") int limit);
+
+    /**
+     * First page of a user's bets, newest first. Served by idx_bets_user_placed.
+     */
+    @Query("SELECT b FROM Bet b WHERE b.userId = :userId AND (:status IS NULL OR b.status = :status) " +
+            "ORDER BY b.placedAt DESC, b.id DESC")
+    List<Bet> findUserHistory(@Param("userId") UUID userId, @Param("status") String status, Pageable page);
+
+    /**
+     * Next page of a user's bets after the keyset cursor (placedAt, id), newest first. The row-value
+     * comparison lets the database start the index scan at the cursor instead of filtering up to it.
+     */
+    @Query(value = "select * from bets where user_id = :userId " +
+            "and (cast(:status as varchar) is null or status = :status) " +
+            "and (placed_at, id) < (:placedAt, :id) " +
+            "order by placed_at desc, id desc", nativeQuery = true)
+    List<Bet> findUserHistoryAfter(@Param("userId") UUID userId, @Param("status") String status,
+            @Param("placedAt") Instant placedAt, @Param("id") UUID id, Pageable page);
 }
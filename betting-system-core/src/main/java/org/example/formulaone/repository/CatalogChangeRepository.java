@@ -0,0 +1,11 @@
+package org.example.formulaone.repository;
+
+import org.example.formulaone.entity.CatalogChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+    List<CatalogChange> findByVersionGreaterThanOrderByVersion(Long since, Pageable page);
+}
@@ -0,0 +1,31 @@
+package org.example.formulaone.repository;
+
+import org.example.formulaone.entity.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, Integer> {
+    /**
+     * Reserves {@code count} versions, locking the counter row until the transaction ends.
+     * Returns 0 if the counter row does not exist yet.
+     */
+    @Modifying
+    @Query(value = "update catalog_version set version = version + :count where id = 1", nativeQuery = true)
+    int advance(@Param("count") long count);
+
+    /**
+     * Highest version handed out, as seen by the transaction holding the counter lock.
+     */
+    @Query(value = "select version from catalog_version where id = 1", nativeQuery = true)
+    long current();
+
+    /**
+     * Creates the counter row, continuing after any versions already in the log.
+     */
+    @Modifying
+    @Query(value = "insert into catalog_version (id, version) "
+            + "select 1, coalesce(max(version), 0) from catalog_changes on conflict do nothing", nativeQuery = true)
+    int createIfAbsent();
+}
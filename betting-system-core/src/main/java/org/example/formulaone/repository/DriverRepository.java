@@ -0,0 +1,32 @@
+package org.example.formulaone.repository;
+
+import org.example.formulaone.entity.Driver;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface DriverRepository extends JpaRepository<Driver, Integer> {
+    /**
+     * Stores the driver unless it already exists. Returns 1 if it was inserted, 0 otherwise.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into drivers (id, full_name, country, team) values (:id, :fullName, :country, :team) " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Integer id, @Param("fullName") String fullName,
+            @Param("country") String country, @Param("team") String team);
+
+    /**
+     * Overwrites the driver's name, country and team where any of them differs. Returns 1 if the driver was
+     * updated, 0 if it is missing or already up to date.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update drivers set full_name = :fullName, country = :country, team = :team where id = :id " +
+            "and (full_name is distinct from :fullName or country is distinct from :country " +
+            "or team is distinct from :team)", nativeQuery = true)
+    int updateIfChanged(@Param("id") Integer id, @Param("fullName") String fullName,
+            @Param("country") String country, @Param("team") String team);
+}
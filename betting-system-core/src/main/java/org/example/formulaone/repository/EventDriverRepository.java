@@ -1,14 +1,26 @@
 package org.example.formulaone.repository;
 
 import org.example.formulaone.entity.EventDriver;
+import org.example.formulaone.entity.EventDriverId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EventDriverRepository extends JpaRepository<EventDriver, String> {
-    Optional<EventDriver> findByEventIdAndDriverId(String eventId, Integer driverId);
+public interface EventDriverRepository extends JpaRepository<EventDriver, EventDriverId> {
+    /**
+     * Primary key lookup on (event_id, driver_id).
+     */
+    default Optional<EventDriver> findByEventIdAndDriverId(String eventId, Integer driverId) {
+        return findById(new EventDriverId(eventId, driverId));
+    }
 
-    List<EventDriver> findByEventIdIn(List<String> eventIds);
-    List<EventDriver> findByEventId(String eventId);
+    @Query("SELECT ed FROM EventDriver ed WHERE ed.id.eventId IN :eventIds")
+    List<EventDriver> findByEventIdIn(@Param("eventIds") Collection<String> eventIds);
+
+    @Query("SELECT ed FROM EventDriver ed WHERE ed.id.eventId = :eventId")
+    List<EventDriver> findByEventId(@Param("eventId") String eventId);
 }
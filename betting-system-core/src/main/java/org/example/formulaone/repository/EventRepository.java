@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface EventRepository extends JpaRepository<Event, String> {
@@ -27,6 +28,13 @@ public interface EventRepository extends JpaRepository<Event, String> {
             @Param("country") String country,
             @Param("sessionType") String sessionType);
 
+    /**
+     * Events without an outcome whose start time lies in [from, to], oldest first.
+     */
+    @Query("SELECT e FROM Event e WHERE e.outcomeDriverId IS NULL AND e.startTime >= :from AND e.startTime <= :to "
+            + "ORDER BY e.startTime")
+    List<Event> findUnsettledStartedBetween(@Param("from") Instant from, @Param("to") Instant to);
+
     /**
      * Atomically set outcome_driver_id if it's not set yet.
      * Returns number of rows updated (1 if success, 0 if already set).
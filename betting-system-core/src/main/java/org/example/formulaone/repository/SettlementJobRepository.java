@@ -0,0 +1,29 @@
+package org.example.formulaone.repository;
+
+import org.example.formulaone.entity.SettlementJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SettlementJobRepository extends JpaRepository<SettlementJob, String> {
+    List<SettlementJob> findByStatusOrderByCreatedAt(String status);
+
+    /**
+     * Marks the job DONE if the event has no pending bets left, recording its totals from the settled bets.
+     * Workers never touch the job row while settling, so they do not serialize on it.
+     * Returns 1 for the single caller that completed it, 0 otherwise.
+     */
+    @Modifying
+    @Query(value = "update settlement_jobs set status = 'DONE', completed_at = :now, " +
+            "bets_settled = (select count(*) from bets b where b.event_id = :eventId " +
+            "and b.status in ('WON', 'LOST')), " +
+            "total_payout = (select coalesce(sum(b.stake * b.odds), 0) from bets b where b.event_id = :eventId " +
+            "and b.status = 'WON') " +
+            "where event_id = :eventId and status = 'OPEN' and not exists " +
+            "(select 1 from bets b where b.event_id = :eventId and b.status = 'PENDING')", nativeQuery = true)
+    int markDoneIfComplete(@Param("eventId") String eventId, @Param("now") Instant now);
+}
@@ -8,11 +8,29 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
+    /**
+     * Creates the user unless it already exists. Concurrent first bets of a new user both succeed.
+     * Returns 1 if the user was created, 0 if it already existed.
+     */
     @Transactional
     @Modifying
-    @Query("update User u set u.balance = u.balance - :amount where u.id = :userId and u.balance >= :amount")
+    @Query(value = "insert into users (id, balance, created_at) values (:userId, :balance, :createdAt) " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("balance") BigDecimal balance,
+            @Param("createdAt") Instant createdAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update users set balance = balance - :amount where id = :userId and balance >= :amount",
+            nativeQuery = true)
     int withdrawIfSufficient(@Param("userId") UUID userId, @Param("amount") BigDecimal amount);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update users set balance = balance + :amount where id = :userId", nativeQuery = true)
+    int credit(@Param("userId") UUID userId, @Param("amount") BigDecimal amount);
 }
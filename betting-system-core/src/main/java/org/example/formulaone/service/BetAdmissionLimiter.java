@@ -0,0 +1,211 @@
+package org.example.formulaone.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.exceptions.EventOverloadedException;
+import org.example.formulaone.exceptions.ServiceOverloadedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Adaptive concurrency limit in front of bet placement (AIMD on observed latency).
+ *
+ * The limit grows by one per limit's worth of successful requests while it is being used, and shrinks by
+ * {@code backoff-ratio} when a request takes longer than {@code latency-tolerance} times the recent minimum
+ * latency (and longer than {@code latency-floor-ms}) or is shed downstream. Requests over the limit fail at once
+ * instead of queueing for a connection.
+ * No single event may hold more than {@code event-share} of the limit, so one hot event cannot starve the rest.
+ */
+@Component
+@Slf4j
+public class BetAdmissionLimiter {
+
+    /**
+     * An admitted request. Must be released exactly once, by the thread that acquired it.
+     */
+    public final class Permit {
+        private final String eventId;
+        private final long startNanos = System.nanoTime();
+        private long excludedNanos;
+
+        private Permit(String eventId) {
+            this.eventId = eventId;
+        }
+
+        /**
+         * Leaves time spent outside the write path (e.g. fetching drivers from the provider) out of the
+         * latency sample, so a slow provider is not mistaken for database congestion.
+         */
+        public void exclude(long nanos) {
+            excludedNanos += nanos;
+        }
+
+        /**
+         * Releases the permit. {@code overloaded} marks requests that were shed or timed out downstream.
+         */
+        public void release(boolean overloaded) {
+            releaseSlot(eventId);
+            onSample(System.nanoTime() - startNanos - excludedNanos, overloaded);
+        }
+    }
+
+    /**
+     * Limit and latency baseline, replaced as a whole by compare-and-set on every sample.
+     */
+    private record State(double limit, long baselineNanos, long windowMinNanos, int windowSamples,
+            int samplesSinceDecrease) {}
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long latencyFloorNanos;
+    private final double eventShare;
+    private final int baselineWindow;
+    private final long retryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, AtomicInteger> inFlightByEvent = new ConcurrentHashMap<>();
+    private final Counter rejectedLimit;
+    private final Counter rejectedEvent;
+
+    private final AtomicReference<State> state;
+
+    @Autowired
+    public BetAdmissionLimiter(MeterRegistry meterRegistry,
+            @Value("${betting.admission.enabled:true}") boolean enabled,
+            @Value("${betting.admission.initial-limit:20}") int initialLimit,
+            @Value("${betting.admission.min-limit:2}") int minLimit,
+            @Value("${betting.admission.max-limit:200}") int maxLimit,
+            @Value("${betting.admission.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${betting.admission.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${betting.admission.latency-floor-ms:20}") long latencyFloorMs,
+            @Value("${betting.admission.event-share:0.5}") double eventShare,
+            @Value("${betting.admission.baseline-window:500}") int baselineWindow,
+            @Value("${betting.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("betting.admission limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.latencyFloorNanos = TimeUnit.MILLISECONDS.toNanos(latencyFloorMs);
+        this.eventShare = eventShare;
+        this.baselineWindow = baselineWindow;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.state = new AtomicReference<>(new State(initialLimit, Long.MAX_VALUE, Long.MAX_VALUE, 0, 0));
+
+        Gauge.builder("betting.admission.limit", this, BetAdmissionLimiter::getLimit)
+                .description("Current concurrency limit for bet placement")
+                .register(meterRegistry);
+        Gauge.builder("betting.admission.in_flight", inFlight, AtomicInteger::get)
+                .description("Bet placements in progress")
+                .register(meterRegistry);
+        this.rejectedLimit = Counter.builder("betting.admission.rejected").tag("reason", "limit")
+                .register(meterRegistry);
+        this.rejectedEvent = Counter.builder("betting.admission.rejected").tag("reason", "event")
+                .register(meterRegistry);
+        if (enabled) {
+            log.info("Bet admission control enabled: limit {} (min {}, max {}), event share {}", initialLimit,
+                    minLimit, maxLimit, eventShare);
+        }
+    }
+
+    /**
+     * Admits a bet on the event or fails fast.
+     *
+     * @throws ServiceOverloadedException if the global limit is reached (503)
+     * @throws EventOverloadedException   if the event has used up its share of the limit (429)
+     */
+    public Permit acquire(String eventId) {
+        if (!enabled) {
+            return null;
+        }
+        int limitNow = getLimit();
+        if (inFlight.incrementAndGet() > limitNow) {
+            inFlight.decrementAndGet();
+            rejectedLimit.increment();
+            throw new ServiceOverloadedException("Too many bets in progress, retry shortly", retryAfterSeconds);
+        }
+
+        String key = eventId != null ? eventId : "";
+        int eventLimit = Math.max(1, (int) (limitNow * eventShare));
+        boolean[] admitted = new boolean[1];
+        inFlightByEvent.compute(key, (k, count) -> {
+            AtomicInteger c = count != null ? count : new AtomicInteger();
+            if (c.get() < eventLimit) {
+                c.incrementAndGet();
+                admitted[0] = true;
+            }
+            return c.get() == 0 ? null : c;
+        });
+        if (!admitted[0]) {
+            inFlight.decrementAndGet();
+            rejectedEvent.increment();
+            throw new EventOverloadedException("Too many bets in progress for event " + eventId + ", retry shortly",
+                    retryAfterSeconds);
+        }
+        return new Permit(key);
+    }
+
+    public int getLimit() {
+        return (int) state.get().limit();
+    }
+
+    private void releaseSlot(String eventId) {
+        inFlightByEvent.computeIfPresent(eventId, (k, c) -> c.decrementAndGet() == 0 ? null : c);
+        inFlight.decrementAndGet();
+    }
+
+    private void onSample(long rttNanos, boolean overloaded) {
+        State current;
+        State next;
+        do {
+            current = state.get();
+            next = advance(current, rttNanos, overloaded, inFlight.get());
+        } while (!state.compareAndSet(current, next));
+    }
+
+    private State advance(State s, long rttNanos, boolean overloaded, int inFlightNow) {
+        long baselineNanos = s.baselineNanos();
+        long windowMinNanos = s.windowMinNanos();
+        int windowSamples = s.windowSamples();
+        if (!overloaded) {
+            // Baseline = minimum latency of the previous window, so it follows slow drifts (e.g. a bigger table)
+            windowMinNanos = Math.min(windowMinNanos, rttNanos);
+            if (++windowSamples >= baselineWindow || baselineNanos == Long.MAX_VALUE) {
+                baselineNanos = windowMinNanos;
+                windowMinNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+        }
+
+        double limit = s.limit();
+        int samplesSinceDecrease = s.samplesSinceDecrease() + 1;
+        // The floor keeps a few very fast requests (e.g. rejected bets) from making normal latency look congested
+        boolean congested = overloaded
+                || (rttNanos > latencyFloorNanos && rttNanos > latencyTolerance * baselineNanos);
+        if (congested) {
+            // At most one decrease per limit's worth of completions, so one slow burst is not punished repeatedly
+            if (samplesSinceDecrease >= limit) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                samplesSinceDecrease = 0;
+            }
+        } else if (inFlightNow * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        return new State(limit, baselineNanos, windowMinNanos, windowSamples, samplesSinceDecrease);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.formulaone.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.BetHistoryDto;
+import org.example.formulaone.dto.BetHistoryPageDto;
+import org.example.formulaone.entity.Bet;
+import org.example.formulaone.repository.BetRepository;
+import org.example.formulaone.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-user bet history with keyset pagination on (placedAt, id), newest first.
+ * Each page continues strictly after the last row of the previous one, so paging stays an index
+ * range scan no matter how deep the client goes.
+ */
+@Service
+@Slf4j
+public class BetHistoryService {
+    private static final Set<String> STATUSES = Set.of(Constants.BET_STATUS_PENDING, Constants.BET_STATUS_WON,
+            Constants.BET_STATUS_LOST);
+
+    private final BetRepository betRepository;
+    private final int maxLimit;
+
+    @Autowired
+    public BetHistoryService(BetRepository betRepository,
+            @Value("${betting.history.max-limit:200}") int maxLimit) {
+        this.betRepository = betRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public BetHistoryPageDto getUserBets(UUID userId, String status, String cursor, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+        String statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            statusFilter = status.trim().toUpperCase(Locale.ROOT);
+            if (!STATUSES.contains(statusFilter)) {
+                throw new IllegalArgumentException("Unknown bet status: " + status);
+            }
+        }
+
+        // Fetch one extra row to know whether there is a next page
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Bet> bets;
+        if (cursor == null || cursor.isBlank()) {
+            bets = betRepository.findUserHistory(userId, statusFilter, page);
+        } else {
+            Cursor after = decodeCursor(cursor);
+            bets = betRepository.findUserHistoryAfter(userId, statusFilter, after.placedAt(), after.id(), page);
+        }
+
+        boolean hasMore = bets.size() > limit;
+        List<Bet> pageBets = hasMore ? bets.subList(0, limit) : bets;
+        String nextCursor = hasMore ? encodeCursor(pageBets.get(limit - 1)) : null;
+        return new BetHistoryPageDto(pageBets.stream().map(BetHistoryService::toDto).toList(), nextCursor);
+    }
+
+    private record Cursor(Instant placedAt, UUID id) {}
+
+    private static String encodeCursor(Bet last) {
+        String raw = last.getPlacedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new Cursor(Instant.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static BetHistoryDto toDto(Bet bet) {
+        return new BetHistoryDto(bet.getId(), bet.getEventId(), bet.getDriverId(), bet.getStake().toBigDecimal(),
+                bet.getOdds(), bet.getStatus(), bet.getPlacedAt(), bet.getSettledAt());
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.formulaone.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.PlaceBetRequestDto;
+import org.example.formulaone.dto.PlaceBetResponseDto;
+import org.example.formulaone.entity.EventDriver;
+import org.example.formulaone.exceptions.ServiceOverloadedException;
+import org.example.formulaone.util.Money;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group-commit pipeline for bet writes.
+ *
+ * Callers enqueue on a bounded lock-free queue and wait on a future. A single flusher thread drains up to
+ * {@code maxBatch} requests every {@code flushIntervalMs} (or as soon as a full batch is waiting) and writes
+ * them all in one transaction, so a batch costs one commit instead of one per bet. Futures complete only
+ * after that commit. If the batch transaction fails, its requests are retried one transaction each so a
+ * single bad request cannot fail its neighbours.
+ *
+ * Callers wait at most {@code waitTimeoutMs}: a bet still queued by then is withdrawn and fails with 503, and
+ * a bet already in a batch is bounded by the batch transaction's timeout, so no caller waits forever and no
+ * caller is told a bet failed that was in fact written.
+ */
+@Slf4j
+class BetWritePipeline {
+
+    /**
+     * Writes a batch of bets inside the caller's transaction, returning one response per bet in order.
+     */
+    @FunctionalInterface
+    interface BatchWriter {
+        List<PlaceBetResponseDto> write(List<BetRequest> bets);
+    }
+
+    record BetRequest(PlaceBetRequestDto request, Money stake, EventDriver driver) {}
+
+    private record Pending(BetRequest bet, CompletableFuture<PlaceBetResponseDto> result, AtomicBoolean claimed) {
+
+        /**
+         * Takes the bet for writing (flusher) or withdraws it (caller); only the first claim wins.
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final TransactionTemplate transactionTemplate;
+    private final BatchWriter writer;
+    private final int capacity;
+    private final int maxBatch;
+    private final long flushIntervalNanos;
+    private final long waitTimeoutMs;
+    private final DistributionSummary batchSizes;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    BetWritePipeline(TransactionTemplate transactionTemplate, BatchWriter writer, int capacity, int maxBatch,
+            long flushIntervalMs, long waitTimeoutMs, MeterRegistry meterRegistry) {
+        this.transactionTemplate = transactionTemplate;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+        // A batch that is already being written is bounded by its transaction instead of the caller's wait
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitTimeoutMs + 999)));
+        this.batchSizes = DistributionSummary.builder("betting.group_commit.batch_size")
+                .description("Bets written per group-commit transaction")
+                .register(meterRegistry);
+        Gauge.builder("betting.group_commit.queued", size, AtomicInteger::get)
+                .description("Bets waiting for the next group commit")
+                .register(meterRegistry);
+        this.flusher = Thread.ofPlatform().name("bet-group-commit").daemon().start(this::run);
+        log.info("Bet group commit enabled: batches of up to {} every {} ms, queue capacity {}", maxBatch,
+                flushIntervalMs, capacity);
+    }
+
+    /**
+     * Queues the bet and waits until its batch has committed.
+     *
+     * @throws ServiceOverloadedException if the queue is full, the pipeline is shutting down, or the bet was
+     *                                    still queued after {@code waitTimeoutMs}
+     */
+    PlaceBetResponseDto place(PlaceBetRequestDto request, Money stake, EventDriver driver) {
+        if (!running) {
+            throw new ServiceOverloadedException("Bet pipeline is shutting down");
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            throw new ServiceOverloadedException("Bet queue is full");
+        }
+        Pending pending = new Pending(new BetRequest(request, stake, driver), new CompletableFuture<>(),
+                new AtomicBoolean());
+        queue.offer(pending);
+        if (size.get() >= maxBatch) {
+            LockSupport.unpark(flusher);
+        }
+
+        try {
+            try {
+                return pending.result().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                if (pending.claim()) {
+                    // Never written; the flusher skips it
+                    throw new ServiceOverloadedException("Bet queue wait timed out");
+                }
+                // Already part of a batch: its transaction timeout bounds this wait
+                return pending.result().get();
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for the bet to be written");
+        }
+    }
+
+    /**
+     * Stops accepting bets and flushes everything already queued. Bets the flusher could not write in time
+     * are failed rather than left waiting.
+     */
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        Pending left;
+        while ((left = queue.poll()) != null) {
+            size.decrementAndGet();
+            if (left.claim()) {
+                left.result().completeExceptionally(new ServiceOverloadedException("Bet pipeline is shutting down"));
+            }
+        }
+    }
+
+    private void run() {
+        while (running || size.get() > 0) {
+            if (running && size.get() < maxBatch) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            try {
+                flush();
+            } catch (Throwable ex) {
+                // Keep the flusher alive: a dead flusher would leave every caller waiting
+                log.error("Unexpected error in bet group commit", ex);
+            }
+        }
+    }
+
+    private void flush() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        Pending next;
+        while (batch.size() < maxBatch && (next = queue.poll()) != null) {
+            size.decrementAndGet();
+            // Skip bets whose callers gave up waiting
+            if (next.claim()) {
+                batch.add(next);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+
+        List<PlaceBetResponseDto> responses;
+        try {
+            responses = transactionTemplate.execute(status -> writer.write(batch.stream().map(Pending::bet).toList()));
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} bets failed, retrying individually: {}", batch.size(), ex.getMessage());
+            batch.forEach(this::writeAlone);
+            return;
+        } catch (Throwable ex) {
+            batch.forEach(p -> p.result().completeExceptionally(ex));
+            throw ex;
+        }
+        // Committed: now the bets are durable
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(responses.get(i));
+        }
+    }
+
+    private void writeAlone(Pending p) {
+        try {
+            p.result().complete(transactionTemplate.execute(status -> writer.write(List.of(p.bet())).get(0)));
+        } catch (Throwable ex) {
+            p.result().completeExceptionally(ex);
+        }
+    }
+}
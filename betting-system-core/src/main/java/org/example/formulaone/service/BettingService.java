@@ -1,18 +1,28 @@
 package org.example.formulaone.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.example.formulaone.util.Constants;
+import org.example.formulaone.util.Money;
 import org.example.formulaone.dto.PlaceBetRequestDto;
 import org.example.formulaone.dto.PlaceBetResponseDto;
 import org.example.formulaone.entity.Bet;
 import org.example.formulaone.entity.EventDriver;
-import org.example.formulaone.entity.User;
 import org.example.formulaone.repository.BetRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -21,63 +31,172 @@ public class BettingService {
     private final UserService userService;
     private final BetRepository betRepository;
     private final EventService eventService;
+    private final MarketClock marketClock;
+    private final TransactionTemplate transactionTemplate;
+    // Null unless betting.group-commit.enabled
+    private final BetWritePipeline pipeline;
+    private final Map<String, Timer> stageTimers = new HashMap<>();
 
     @Autowired
     public BettingService(final UserService userService, final BetRepository betRepository,
-            final EventService eventService) {
+            final EventService eventService, final MarketClock marketClock,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry,
+            @Value("${betting.group-commit.enabled:false}") final boolean groupCommit,
+            @Value("${betting.group-commit.capacity:10000}") final int groupCommitCapacity,
+            @Value("${betting.group-commit.max-batch:200}") final int groupCommitMaxBatch,
+            @Value("${betting.group-commit.flush-interval-ms:5}") final long groupCommitFlushIntervalMs,
+            @Value("${betting.group-commit.wait-timeout-ms:5000}") final long groupCommitWaitTimeoutMs) {
         this.userService = userService;
         this.betRepository = betRepository;
         this.eventService = eventService;
+        this.marketClock = marketClock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (String stage : List.of("ensure_user", "find_event", "find_or_create_driver", "withdraw", "insert")) {
+            stageTimers.put(stage, Timer.builder("betting.place.stage")
+                    .description("Time spent in each stage of bet placement")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.pipeline = groupCommit
+                ? new BetWritePipeline(new TransactionTemplate(transactionManager), this::placeBets,
+                        groupCommitCapacity, groupCommitMaxBatch, groupCommitFlushIntervalMs,
+                        groupCommitWaitTimeoutMs, meterRegistry)
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
     }
 
-    @Transactional
-    public PlaceBetResponseDto placeBet(PlaceBetRequestDto placeBetRequestDto) {
-        BigDecimal stake = placeBetRequestDto.getStake();
-        if (stake.signum() <= 0)
+    /**
+     * Places a bet. The event and driver are resolved first, outside any transaction, because resolving
+     * the driver may call the provider; the user, withdrawal and bet insert then run in one short transaction,
+     * or in a shared group-commit transaction when the pipeline is enabled. Time spent resolving the driver is
+     * excluded from the admission {@code permit}'s latency sample (null when admission control is off).
+     */
+    public PlaceBetResponseDto placeBet(PlaceBetRequestDto placeBetRequestDto, BetAdmissionLimiter.Permit permit) {
+        // Convert once at the API boundary; everything below works in minor units
+        Money stake = Money.of(placeBetRequestDto.getStake());
+        if (!stake.isPositive())
             throw new IllegalArgumentException("stake must be > 0");
 
-        log.info("Ensure user exists, if not create with gift 100");
-        User user = userService.ensureUserExists(placeBetRequestDto.getUserId());
+        log.debug("Checking if event exists as first listing events should be called first before this");
+        stage("find_event").record(() -> eventService.requireEvent(placeBetRequestDto.getEventId())); // Validation only
+
+        // In-memory market state; a closed market is rejected without touching the database
+        if (!marketClock.isOpen(placeBetRequestDto.getEventId())) {
+            log.debug("Market closed for event: {}", placeBetRequestDto.getEventId());
+            return failed(Constants.ERROR_MARKET_CLOSED, null);
+        }
+
+        log.debug("Fetch existing drivers for the event or calling again API to fetch latest drivers for event");
+        long resolveStart = System.nanoTime();
+        EventDriver ed = stage("find_or_create_driver").record(() -> eventService.findOrCreateEventDriver(
+                placeBetRequestDto.getEventId(), placeBetRequestDto.getDriverId()));
+        if (permit != null) {
+            // May have called the provider; only the write path says anything about database congestion
+            permit.exclude(System.nanoTime() - resolveStart);
+        }
+
+        if (pipeline == null) {
+            return transactionTemplate.execute(status -> placeBetWithDriver(placeBetRequestDto, stake, ed));
+        }
+        // Returns once the batch holding this bet has committed
+        return pipeline.place(placeBetRequestDto, stake, ed);
+    }
+
+    /**
+     * Writes a group-commit batch with set-based statements: one JDBC batch creates the unknown users, one
+     * debits the stakes in queue order, and the accepted bets are persisted together so Hibernate sends them
+     * as batched inserts at commit.
+     */
+    private List<PlaceBetResponseDto> placeBets(List<BetWritePipeline.BetRequest> batch) {
+        Set<UUID> userIds = new LinkedHashSet<>();
+        List<UUID> debited = new ArrayList<>(batch.size());
+        List<Money> stakes = new ArrayList<>(batch.size());
+        for (BetWritePipeline.BetRequest b : batch) {
+            userIds.add(b.request().getUserId());
+            debited.add(b.request().getUserId());
+            stakes.add(b.stake());
+        }
+        stage("ensure_user").record(() -> userService.ensureUsersExist(userIds));
+        int[] withdrawn = stage("withdraw").record(() -> userService.withdrawAllIfSufficient(debited, stakes));
 
-        log.info("Checking if event exists as first listing events should be called first before this");
-        eventService.findEvent(placeBetRequestDto.getEventId()); // Validation only
+        List<PlaceBetResponseDto> responses = new ArrayList<>(batch.size());
+        List<Bet> bets = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            BetWritePipeline.BetRequest b = batch.get(i);
+            if (withdrawn[i] == 0) {
+                log.debug("Insufficient balance for user: {}, required: {}", b.request().getUserId(), b.stake());
+                responses.add(failed(Constants.ERROR_INSUFFICIENT_BALANCE, b.driver().getOdds()));
+                continue;
+            }
+            Bet bet = newBet(b.request(), b.stake(), b.driver());
+            bets.add(bet);
+            responses.add(placed(bet));
+        }
+        stage("insert").record(() -> betRepository.saveAll(bets));
+        return responses;
+    }
 
-        log.info("Fetch existing drivers for the event or calling again API to fetch latest drivers for event");
-        EventDriver ed = eventService.findOrCreateEventDriver(placeBetRequestDto.getEventId(),
-                placeBetRequestDto.getDriverId());
+    private PlaceBetResponseDto placeBetWithDriver(PlaceBetRequestDto placeBetRequestDto, Money stake,
+            EventDriver ed) {
+        UUID userId = placeBetRequestDto.getUserId();
+        log.debug("Ensure user exists, if not create with gift 100");
+        stage("ensure_user").record(() -> userService.ensureUserExists(userId));
 
-        int updated = userService.withdrawIfSufficient(user.getId(), stake);
+        int updated = stage("withdraw").record(() -> userService.withdrawIfSufficient(userId, stake));
         if (updated == 0) {
-            log.warn("Insufficient balance for user: {}, required: {}", user.getId(), stake);
-            PlaceBetResponseDto r = new PlaceBetResponseDto();
-            r.setBetId(null);
-            r.setStatus(Constants.BET_STATUS_FAILED);
-            r.setMessage(Constants.ERROR_INSUFFICIENT_BALANCE);
-            r.setOdds(ed.getOdds());
-            return r;
+            log.debug("Insufficient balance for user: {}, required: {}", userId, stake);
+            return failed(Constants.ERROR_INSUFFICIENT_BALANCE, ed.getOdds());
         }
 
-        log.info("Creating bet record for user: {}", user.getId());
+        log.debug("Creating bet record for user: {}", userId);
+
+        Bet bet = newBet(placeBetRequestDto, stake, ed);
+        stage("insert").record(() -> betRepository.save(bet));
+
+        log.debug("Bet placed successfully with ID: {}", bet.getId());
+        return placed(bet);
+    }
 
-        UUID betId = UUID.randomUUID();
+    private static Bet newBet(PlaceBetRequestDto placeBetRequestDto, Money stake, EventDriver ed) {
         Bet bet = new Bet();
-        bet.setId(betId);
-        bet.setUserId(user.getId());
+        bet.setId(UUID.randomUUID());
+        bet.setUserId(placeBetRequestDto.getUserId());
         bet.setEventId(placeBetRequestDto.getEventId());
         bet.setDriverId(placeBetRequestDto.getDriverId());
         bet.setStake(stake);
         bet.setOdds(ed.getOdds());
         bet.setStatus(Constants.BET_STATUS_PENDING);
         bet.setSettledAt(null);
-        betRepository.save(bet);
-
-        log.info("Bet placed successfully with ID: {}", betId);
+        return bet;
+    }
 
+    private static PlaceBetResponseDto placed(Bet bet) {
         PlaceBetResponseDto resp = new PlaceBetResponseDto();
-        resp.setBetId(betId);
+        resp.setBetId(bet.getId());
         resp.setStatus(bet.getStatus());
         resp.setOdds(bet.getOdds());
         resp.setMessage(Constants.SUCCESS_BET_PLACED);
         return resp;
     }
+
+    private static PlaceBetResponseDto failed(String message, Integer odds) {
+        PlaceBetResponseDto r = new PlaceBetResponseDto();
+        r.setBetId(null);
+        r.setStatus(Constants.BET_STATUS_FAILED);
+        r.setMessage(message);
+        r.setOdds(odds);
+        return r;
+    }
+
+    private Timer stage(String name) {
+        return stageTimers.get(name);
+    }
 }
\ No newline at end of file
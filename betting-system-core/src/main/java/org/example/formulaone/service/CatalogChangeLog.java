@@ -0,0 +1,94 @@
+package org.example.formulaone.service;
+
+import org.example.formulaone.dto.EventUpdateDto;
+import org.example.formulaone.entity.CatalogChange;
+import org.example.formulaone.repository.CatalogChangeRepository;
+import org.example.formulaone.repository.CatalogVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends to the catalog change log. Must run inside the transaction that makes the change,
+ * so a change is logged if and only if it commits.
+ *
+ * Changes are buffered and written just before the transaction commits, under the row lock of the
+ * {@code catalog_version} counter. The lock is held until commit, so the next transaction can only take a
+ * version once this one has committed: versions are handed out in commit order and without gaps, and a
+ * reader that sees a version has already seen every lower one. The other writes of the transaction are
+ * flushed before the lock is taken, so it is held only for the log insert and the commit itself.
+ */
+@Component
+public class CatalogChangeLog {
+    public static final String TYPE_EVENT = "event";
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    @Autowired
+    public CatalogChangeLog(CatalogChangeRepository catalogChangeRepository,
+            CatalogVersionRepository catalogVersionRepository) {
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void eventAdded(String eventId) {
+        append(new CatalogChange(eventId, TYPE_EVENT));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void oddsAdded(String eventId) {
+        append(new CatalogChange(eventId, EventUpdateDto.TYPE_ODDS));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void outcomeSet(String eventId) {
+        append(new CatalogChange(eventId, EventUpdateDto.TYPE_OUTCOME));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void append(CatalogChange change) {
+        List<CatalogChange> pending = (List<CatalogChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<CatalogChange> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeVersioned(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CatalogChangeLog.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private void writeVersioned(List<CatalogChange> changes) {
+        // Flush the transaction's own writes first so the counter lock is not held while they run
+        catalogChangeRepository.flush();
+        if (catalogVersionRepository.advance(changes.size()) == 0) {
+            catalogVersionRepository.createIfAbsent();
+            catalogVersionRepository.advance(changes.size());
+        }
+        long version = catalogVersionRepository.current() - changes.size();
+        Instant now = Instant.now();
+        for (CatalogChange change : changes) {
+            change.setVersion(++version);
+            change.setChangedAt(now);
+        }
+        catalogChangeRepository.saveAllAndFlush(changes);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.formulaone.service;
+
+import org.example.formulaone.dto.CatalogChangeDto;
+import org.example.formulaone.dto.CatalogChangesPageDto;
+import org.example.formulaone.dto.DriverDto;
+import org.example.formulaone.dto.EventUpdateDto;
+import org.example.formulaone.dto.ListingEventsResponseDto;
+import org.example.formulaone.entity.CatalogChange;
+import org.example.formulaone.entity.Event;
+import org.example.formulaone.entity.EventDriver;
+import org.example.formulaone.repository.CatalogChangeRepository;
+import org.example.formulaone.repository.EventDriverRepository;
+import org.example.formulaone.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "Changes since" feed over the catalog change log.
+ *
+ * Events and drivers are immutable once stored and an outcome is set only once, so each change is
+ * resolved against the current rows. Versions are assigned in commit order (see {@link CatalogChangeLog}),
+ * so a page never skips a change that commits later.
+ */
+@Service
+public class CatalogChangeService {
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final EventRepository eventRepository;
+    private final EventDriverRepository eventDriverRepository;
+    private final EventService eventService;
+    private final int maxLimit;
+
+    @Autowired
+    public CatalogChangeService(CatalogChangeRepository catalogChangeRepository, EventRepository eventRepository,
+            EventDriverRepository eventDriverRepository, EventService eventService,
+            @Value("${betting.catalog-changes.max-limit:1000}") int maxLimit) {
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.eventRepository = eventRepository;
+        this.eventDriverRepository = eventDriverRepository;
+        this.eventService = eventService;
+        this.maxLimit = maxLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogChangesPageDto getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+
+        List<CatalogChange> changes = catalogChangeRepository.findByVersionGreaterThanOrderByVersion(since,
+                PageRequest.of(0, limit + 1));
+        boolean hasMore = changes.size() > limit;
+        List<CatalogChange> page = hasMore ? changes.subList(0, limit) : changes;
+        if (page.isEmpty()) {
+            return new CatalogChangesPageDto(List.of(), since, false);
+        }
+
+        Set<String> eventIds = page.stream().map(CatalogChange::getEventId).collect(Collectors.toSet());
+        Map<String, Event> events = eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        Set<String> oddsEventIds = page.stream()
+                .filter(c -> EventUpdateDto.TYPE_ODDS.equals(c.getChangeType()))
+                .map(CatalogChange::getEventId)
+                .collect(Collectors.toSet());
+        Map<String, List<EventDriver>> drivers = oddsEventIds.isEmpty() ? Map.of()
+                : eventDriverRepository.findByEventIdIn(oddsEventIds).stream()
+                        .collect(Collectors.groupingBy(EventDriver::getEventId));
+
+        List<CatalogChangeDto> dtos = page.stream().map(c -> toDto(c, events.get(c.getEventId()), drivers)).toList();
+        return new CatalogChangesPageDto(dtos, page.get(page.size() - 1).getVersion(), hasMore);
+    }
+
+    private CatalogChangeDto toDto(CatalogChange change, Event event, Map<String, List<EventDriver>> drivers) {
+        CatalogChangeDto dto = new CatalogChangeDto();
+        dto.setVersion(change.getVersion());
+        dto.setType(change.getChangeType());
+        dto.setEventId(change.getEventId());
+        dto.setChangedAt(change.getChangedAt());
+        switch (change.getChangeType()) {
+            case CatalogChangeLog.TYPE_EVENT -> {
+                if (event != null) {
+                    ListingEventsResponseDto summary = eventService.convertEventToResponseDto(event, Map.of());
+                    summary.setDrivers(null);
+                    dto.setEvent(summary);
+                }
+            }
+            case EventUpdateDto.TYPE_ODDS -> {
+                List<DriverDto> odds = drivers.getOrDefault(change.getEventId(), Collections.emptyList()).stream()
+                        .map(eventService::convertEventDriverToDriverDto)
+                        .toList();
+                dto.setDrivers(odds);
+            }
+            case EventUpdateDto.TYPE_OUTCOME ->
+                    dto.setWinnerDriverId(event != null ? event.getOutcomeDriverId() : null);
+            default -> { }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,273 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Provider that fans out to the configured member providers ({@code openf1.composite.members}, in priority order).
+ *
+ * Drivers and session results are fetched with hedging: the next member is only called when the previous one has not answered
+ * within its recent latency percentile (or has failed), and the first non-empty answer wins.
+ * Sessions are requested from all members at once and merged, deduplicated by {@code session_key}; members
+ * that have not answered by the primary's hedge deadline are left out of the merge.
+ */
+@Service
+@Slf4j
+@Order(50)
+public class CompositeF1Provider implements F1Provider {
+    private final ObjectProvider<F1Provider> providers;
+    private final ExecutorService memberExecutor;
+    private final MeterRegistry meterRegistry;
+    private final List<String> memberNames;
+    private final double hedgePercentile;
+    private final long initialHedgeDelayMs;
+    private final long minHedgeDelayMs;
+    private final long timeoutMs;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private volatile List<F1Provider> members;
+
+    public CompositeF1Provider(final ObjectProvider<F1Provider> providers,
+            @Qualifier("providerMemberExecutor") final ExecutorService memberExecutor,
+            final MeterRegistry meterRegistry,
+            @Value("${openf1.composite.members:openf1,snapshot}") final String[] memberNames,
+            @Value("${openf1.composite.hedge-percentile:0.95}") final double hedgePercentile,
+            @Value("${openf1.composite.hedge-initial-delay-ms:500}") final long initialHedgeDelayMs,
+            @Value("${openf1.composite.hedge-min-delay-ms:20}") final long minHedgeDelayMs,
+            @Value("${openf1.composite.timeout-ms:10000}") final long timeoutMs) {
+        this.providers = providers;
+        this.memberExecutor = memberExecutor;
+        this.meterRegistry = meterRegistry;
+        this.memberNames = Arrays.stream(memberNames).map(n -> n.trim().toLowerCase(Locale.ROOT)).toList();
+        this.hedgePercentile = hedgePercentile;
+        this.initialHedgeDelayMs = initialHedgeDelayMs;
+        this.minHedgeDelayMs = minHedgeDelayMs;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public JsonNode fetchRawSessions(Integer year, String country, String sessionType) {
+        List<F1Provider> members = members();
+        if (members.isEmpty()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        long mergeDeadline = start + TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs(members.get(0)));
+
+        List<CompletableFuture<JsonNode>> calls = new ArrayList<>();
+        CompletableFuture<JsonNode> firstGood = new CompletableFuture<>();
+        for (F1Provider member : members) {
+            CompletableFuture<JsonNode> call = call(member, p -> p.fetchRawSessions(year, country, sessionType));
+            call.thenAccept(result -> {
+                if (isGood(result)) {
+                    firstGood.complete(result);
+                }
+            });
+            calls.add(call);
+        }
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]));
+
+        await(CompletableFuture.anyOf(firstGood, allDone), timeoutMs);
+        if (firstGoodOf(calls) == null) {
+            return null;
+        }
+        // Give the other members until the primary's hedge deadline to contribute to the merge
+        await(allDone, TimeUnit.NANOSECONDS.toMillis(mergeDeadline - System.nanoTime()));
+
+        List<JsonNode> answers = calls.stream()
+                .filter(CompletableFuture::isDone)
+                .map(c -> c.getNow(null))
+                .filter(CompositeF1Provider::isGood)
+                .toList();
+        return answers.size() == 1 ? answers.get(0) : mergeSessions(answers);
+    }
+
+    @Override
+    public JsonNode fetchRawDriversForSession(String sessionKey) {
+        return hedged("drivers", p -> p.fetchRawDriversForSession(sessionKey));
+    }
+
+    @Override
+    public JsonNode fetchRawSessionResult(String sessionKey) {
+        return hedged("session_result", p -> p.fetchRawSessionResult(sessionKey));
+    }
+
+    @Override
+    public String getName() {
+        return "composite";
+    }
+
+    /**
+     * Calls members one after another, starting the next when the current one is slower than its hedge
+     * delay or has answered without a usable result. Returns the first usable answer.
+     */
+    private JsonNode hedged(String operation, Function<F1Provider, JsonNode> request) {
+        List<F1Provider> members = members();
+        List<CompletableFuture<JsonNode>> calls = new ArrayList<>();
+        CompletableFuture<JsonNode> firstGood = new CompletableFuture<>();
+
+        for (int i = 0; i < members.size(); i++) {
+            F1Provider member = members.get(i);
+            CompletableFuture<JsonNode> call = call(member, request);
+            call.thenAccept(result -> {
+                if (isGood(result)) {
+                    firstGood.complete(result);
+                }
+            });
+            calls.add(call);
+
+            if (i == members.size() - 1) {
+                break;
+            }
+            if (!await(CompletableFuture.anyOf(firstGood, call), hedgeDelayMs(member))) {
+                log.debug("Provider {} slower than hedge delay for {}, hedging to {}", member.getName(), operation,
+                        members.get(i + 1).getName());
+                meterRegistry.counter("providers.composite.hedges", "operation", operation).increment();
+            } else if (firstGoodOf(calls) != null) {
+                return firstGoodOf(calls);
+            }
+        }
+
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]));
+        await(CompletableFuture.anyOf(firstGood, allDone), timeoutMs);
+        return firstGoodOf(calls);
+    }
+
+    private static JsonNode firstGoodOf(List<CompletableFuture<JsonNode>> calls) {
+        return calls.stream()
+                .filter(CompletableFuture::isDone)
+                .map(c -> c.getNow(null))
+                .filter(CompositeF1Provider::isGood)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Runs one member call on the member executor. Failures are logged and turned into a null answer.
+     */
+    private CompletableFuture<JsonNode> call(F1Provider member, Function<F1Provider, JsonNode> request) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            JsonNode result = request.apply(member);
+            latencyWindow(member).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+        }, memberExecutor).exceptionally(ex -> {
+            log.warn("Provider {} failed: {}", member.getName(), ex.getMessage());
+            return null;
+        });
+    }
+
+    private long hedgeDelayMs(F1Provider member) {
+        long percentile = latencyWindow(member).percentile(hedgePercentile);
+        return percentile < 0 ? initialHedgeDelayMs : Math.max(minHedgeDelayMs, percentile);
+    }
+
+    private LatencyWindow latencyWindow(F1Provider member) {
+        return latencies.computeIfAbsent(member.getName(), n -> new LatencyWindow());
+    }
+
+    private List<F1Provider> members() {
+        List<F1Provider> resolved = members;
+        if (resolved == null) {
+            // Resolved lazily: the composite is itself an F1Provider bean
+            List<F1Provider> candidates = providers.orderedStream().filter(p -> p != this).toList();
+            resolved = new ArrayList<>();
+            for (String name : memberNames) {
+                candidates.stream().filter(p -> p.getName().equalsIgnoreCase(name)).findFirst()
+                        .ifPresent(resolved::add);
+            }
+            members = resolved;
+            log.info("Composite provider members: {}", resolved.stream().map(F1Provider::getName).toList());
+        }
+        return resolved;
+    }
+
+    private static ArrayNode mergeSessions(List<JsonNode> answers) {
+        ArrayNode merged = JsonNodeFactory.instance.arrayNode();
+        Set<String> seen = new HashSet<>();
+        for (JsonNode answer : answers) {
+            for (JsonNode session : answer) {
+                JsonNode key = session.get("session_key");
+                if (key == null || key.isNull() || seen.add(key.asText())) {
+                    merged.add(session);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isGood(JsonNode result) {
+        return result != null && !result.isNull() && !(result.isArray() && result.isEmpty());
+    }
+
+    /**
+     * Waits for the future up to the timeout. Returns false if it did not complete in time.
+     */
+    private static boolean await(CompletableFuture<?> future, long timeoutMs) {
+        if (timeoutMs <= 0) {
+            return future.isDone();
+        }
+        try {
+            future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException ex) {
+            return false;
+        } catch (ExecutionException ex) {
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return future.isDone();
+        }
+    }
+
+    /**
+     * Sliding window of the most recent call latencies for one member.
+     */
+    private static final class LatencyWindow {
+        private static final int SIZE = 256;
+        private static final int MIN_SAMPLES = 20;
+
+        private final long[] samples = new long[SIZE];
+        private final AtomicInteger count = new AtomicInteger();
+
+        void record(long millis) {
+            samples[Math.floorMod(count.getAndIncrement(), SIZE)] = millis;
+        }
+
+        /**
+         * Returns the given percentile of recent latencies, or -1 if there are too few samples.
+         */
+        long percentile(double p) {
+            int n = Math.min(count.get(), SIZE);
+            if (n < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, n);
+            Arrays.sort(sorted);
+            return sorted[Math.min(n - 1, (int) Math.ceil(p * n) - 1)];
+        }
+    }
+}
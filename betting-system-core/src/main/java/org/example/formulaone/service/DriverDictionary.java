@@ -0,0 +1,151 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.formulaone.dto.DriverDto;
+import org.example.formulaone.entity.Driver;
+import org.example.formulaone.repository.DriverRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared in-memory dictionary of drivers, keyed by driver number.
+ *
+ * There are only a few dozen drivers, so one {@link Driver} per number is kept for the life of the process:
+ * ingest resolves provider rows against it instead of allocating a driver per event, and listing DTOs take
+ * their names from it. A provider row whose name, country or team differs from the known driver (a transfer,
+ * or a number reassigned in a new season) replaces it, and the change is written to the {@code drivers} table
+ * the next time an event references the driver; cached listings carry driver names, so they are invalidated
+ * once that write commits. Numbers not found in the database are remembered too, so an unknown number costs
+ * one query, not one per listing.
+ */
+@Component
+public class DriverDictionary {
+    // Bounds the remembered misses; driver numbers come from stored event drivers, so this is never reached
+    private static final int MAX_MISSES = 10_000;
+
+    private final DriverRepository driverRepository;
+    private final ListingCache listingCache;
+    private final Map<Integer, Driver> drivers = new ConcurrentHashMap<>();
+    // The driver instance last committed to the drivers table, per number
+    private final Map<Integer, Driver> stored = new ConcurrentHashMap<>();
+    private final Set<Integer> missing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public DriverDictionary(DriverRepository driverRepository, ListingCache listingCache) {
+        this.driverRepository = driverRepository;
+        this.listingCache = listingCache;
+    }
+
+    /**
+     * Loads all stored drivers.
+     */
+    public void loadAll() {
+        for (Driver driver : driverRepository.findAll()) {
+            drivers.put(driver.getId(), driver);
+            stored.put(driver.getId(), driver);
+            missing.remove(driver.getId());
+        }
+    }
+
+    public int size() {
+        return drivers.size();
+    }
+
+    /**
+     * Returns the driver for a provider row. The known driver is returned as is while the row agrees with it;
+     * fields the row provides that differ replace it with an updated driver.
+     */
+    public Driver resolve(int driverId, JsonNode driverNode) {
+        String fullName = EventService.textOrNull(driverNode, "full_name");
+        String country = EventService.textOrNull(driverNode, "country_code");
+        String team = EventService.textOrNull(driverNode, "team_name");
+        Driver known = drivers.get(driverId);
+        if (known != null && agrees(known, fullName, country, team)) {
+            return known;
+        }
+        missing.remove(driverId);
+        return drivers.compute(driverId, (id, current) -> current == null
+                ? new Driver(id, fullName, country, team)
+                : agrees(current, fullName, country, team) ? current
+                : new Driver(id, fullName != null ? fullName : current.getFullName(),
+                        country != null ? country : current.getCountry(), team != null ? team : current.getTeam()));
+    }
+
+    /**
+     * True if every field the provider row has matches the driver.
+     */
+    private static boolean agrees(Driver driver, String fullName, String country, String team) {
+        return (fullName == null || fullName.equals(driver.getFullName()))
+                && (country == null || country.equals(driver.getCountry()))
+                && (team == null || team.equals(driver.getTeam()));
+    }
+
+    /**
+     * Returns the full name of the driver, loading it from the database on the first miss. Null if unknown.
+     */
+    public String fullName(Integer driverId) {
+        if (driverId == null) {
+            return null;
+        }
+        Driver driver = drivers.get(driverId);
+        if (driver == null && driverRepository != null && !missing.contains(driverId)) {
+            driver = driverRepository.findById(driverId).orElse(null);
+            if (driver != null) {
+                if (drivers.putIfAbsent(driverId, driver) == null) {
+                    stored.putIfAbsent(driverId, driver);
+                }
+            } else if (missing.size() < MAX_MISSES) {
+                missing.add(driverId);
+            }
+        }
+        return driver != null ? driver.getFullName() : null;
+    }
+
+    /**
+     * Writes the given drivers to the {@code drivers} table if they are new or changed since last stored,
+     * within the caller's transaction. They count as stored, and cached listings are invalidated, once that
+     * transaction commits.
+     */
+    public void storeIfChanged(Collection<DriverDto> eventDrivers) {
+        for (DriverDto dto : eventDrivers) {
+            Integer driverId = dto.getDriverId();
+            Driver driver = drivers.computeIfAbsent(driverId, id -> new Driver(id, dto.getFullName(), null, null));
+            Driver previous = stored.get(driverId);
+            if (previous == driver) {
+                continue;
+            }
+            if (previous == null || driverRepository.updateIfChanged(driverId, driver.getFullName(),
+                    driver.getCountry(), driver.getTeam()) == 0) {
+                driverRepository.insertIfAbsent(driverId, driver.getFullName(), driver.getCountry(), driver.getTeam());
+            }
+            missing.remove(driverId);
+            markStoredAfterCommit(driver);
+        }
+    }
+
+    private void markStoredAfterCommit(Driver driver) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markStored(driver);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markStored(driver);
+            }
+        });
+    }
+
+    private void markStored(Driver driver) {
+        stored.put(driver.getId(), driver);
+        // Listings built before the change still carry the old name
+        listingCache.invalidate();
+    }
+}
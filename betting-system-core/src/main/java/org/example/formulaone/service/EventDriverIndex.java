@@ -0,0 +1,54 @@
+package org.example.formulaone.service;
+
+import org.example.formulaone.entity.EventDriver;
+import org.example.formulaone.entity.EventDriverId;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of known event IDs and event drivers.
+ * Events and their driver odds never change once stored, so bet placement can validate
+ * against this index and only fall back to the database on a miss.
+ */
+@Component
+public class EventDriverIndex {
+    private final Set<String> knownEvents = ConcurrentHashMap.newKeySet();
+    private final Map<EventDriverId, EventDriver> drivers = new ConcurrentHashMap<>();
+
+    public boolean isKnownEvent(String eventId) {
+        return eventId != null && knownEvents.contains(eventId);
+    }
+
+    public void addEvent(String eventId) {
+        if (eventId != null) {
+            knownEvents.add(eventId);
+        }
+    }
+
+    public Optional<EventDriver> findDriver(String eventId, Integer driverId) {
+        if (eventId == null || driverId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(drivers.get(new EventDriverId(eventId, driverId)));
+    }
+
+    public void addDrivers(Collection<EventDriver> eventDrivers) {
+        for (EventDriver ed : eventDrivers) {
+            drivers.put(ed.getId(), ed);
+            knownEvents.add(ed.getEventId());
+        }
+    }
+
+    public int eventCount() {
+        return knownEvents.size();
+    }
+
+    public int driverCount() {
+        return drivers.size();
+    }
+}
@@ -2,6 +2,7 @@ package org.example.formulaone.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.example.formulaone.dto.DriverDto;
+import org.example.formulaone.dto.EventUpdateDto;
 import org.example.formulaone.dto.ListingEventsResponseDto;
 import org.example.formulaone.entity.Event;
 import org.example.formulaone.entity.EventDriver;
@@ -9,9 +10,13 @@ import org.example.formulaone.repository.EventDriverRepository;
 import org.example.formulaone.repository.EventRepository;
 import org.example.formulaone.util.RandomOdds;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
@@ -23,6 +28,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,13 +39,36 @@ public class EventService {
     private final F1ProviderFactory providerFactory;
     private final EventRepository eventRepository;
     private final EventDriverRepository eventDriverRepository;
+    private final ExecutorService providerExecutor;
+    private final EventDriverIndex eventDriverIndex;
+    private final DriverDictionary driverDictionary;
+    private final MarketClock marketClock;
+    private final ListingCache listingCache;
+    private final CatalogChangeLog catalogChangeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate writeTx;
 
     @Autowired
     public EventService(F1ProviderFactory providerFactory, EventRepository eventRepository,
-            EventDriverRepository eventDriverRepository) {
+            EventDriverRepository eventDriverRepository,
+            @Qualifier("providerExecutor") ExecutorService providerExecutor, EventDriverIndex eventDriverIndex,
+            DriverDictionary driverDictionary, MarketClock marketClock, ListingCache listingCache,
+            CatalogChangeLog catalogChangeLog, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
         this.providerFactory = providerFactory;
         this.eventRepository = eventRepository;
         this.eventDriverRepository = eventDriverRepository;
+        this.providerExecutor = providerExecutor;
+        this.eventDriverIndex = eventDriverIndex;
+        this.driverDictionary = driverDictionary;
+        this.marketClock = marketClock;
+        this.listingCache = listingCache;
+        this.catalogChangeLog = catalogChangeLog;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -47,18 +78,47 @@ public class EventService {
         return providerFactory.getProvider(providerName);
     }
 
-    @Transactional
-    public List<ListingEventsResponseDto> listEvents(Integer year, String country, String sessionType,
+    /**
+     * Lists events as serialized JSON. Listings read from the database are cached per filter until the
+     * catalog changes, so unchanged listings are served without querying or serializing again.
+     */
+    public ListingCache.Entry listEventsSerialized(Integer year, String country, String sessionType,
             String provider) {
-        log.info("Fetching events from database first. If no events found, fetching it from openf1 API again");
+        String key = ListingCache.key(year, country, sessionType);
+        ListingCache.Entry cached = listingCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
-        List<Event> eventsFromDb = eventRepository.findEventsWithOptionalFilters(year, country, sessionType);
+        // Read the version first: a catalog change during the read leaves the entry stale, not wrong
+        long version = listingCache.version();
+        // Read-only, so it is served by the replica when one is configured
+        List<ListingEventsResponseDto> fromDb = readOnlyTx.execute(
+                status -> listEventsFromDb(year, country, sessionType));
+        if (fromDb != null && !fromDb.isEmpty()) {
+            return listingCache.put(key, version, fromDb);
+        }
+        return listingCache.serialize(fetchAndStoreEvents(year, country, sessionType, provider));
+    }
 
-        if (!eventsFromDb.isEmpty()) {
-            return convertEventsToListingResponseDtos(eventsFromDb);
+    private List<ListingEventsResponseDto> fetchAndStoreEvents(Integer year, String country, String sessionType,
+            String provider) {
+        // Provider calls run without a transaction; each event is then stored in its own short one
+        List<ListingEventsResponseDto> events = fetchEventsFromProvider(year, country, sessionType, provider);
+        if (!events.isEmpty()) {
+            log.info("Save events from external call in our database to reduce API calls.");
+            events.forEach(this::storeEventIfNotExists);
         }
+        return events;
+    }
 
-        return fetchAndStoreEventsFromProvider(year, country, sessionType, provider);
+    /**
+     * Lists events from the database only, never calling a provider. Used by listing and the startup warm-up.
+     */
+    @Transactional(readOnly = true)
+    public List<ListingEventsResponseDto> listEventsFromDb(Integer year, String country, String sessionType) {
+        return convertEventsToListingResponseDtos(
+                eventRepository.findEventsWithOptionalFilters(year, country, sessionType));
     }
 
     public Event findEvent(String eventId) {
@@ -67,11 +127,44 @@ public class EventService {
                         ". Please call /events API first to load events into the database."));
     }
 
-    @Transactional
+    /**
+     * Validates that the event exists, answering from the in-memory index when possible.
+     */
+    public void requireEvent(String eventId) {
+        if (eventDriverIndex.isKnownEvent(eventId)) {
+            return;
+        }
+        findEvent(eventId);
+        eventDriverIndex.addEvent(eventId);
+    }
+
+    /**
+     * Loads all stored drivers, events and event drivers into the in-memory dictionary and index,
+     * and schedules each event's market close.
+     */
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        driverDictionary.loadAll();
+        for (Event event : eventRepository.findAll()) {
+            eventDriverIndex.addEvent(event.getId());
+            marketClock.schedule(event.getId(), event.getStartTime());
+        }
+        eventDriverIndex.addDrivers(eventDriverRepository.findAll());
+    }
+
+    /**
+     * Returns the driver of the event, fetching and storing the event's drivers from the provider if none are
+     * stored yet. Must not be called inside a transaction: the provider call would hold its connection.
+     */
     public EventDriver findOrCreateEventDriver(String eventId, Integer driverId) {
-        // 1) Try to find existing driver for this event
+        // 1) Try the in-memory index, then the database
+        Optional<EventDriver> indexed = eventDriverIndex.findDriver(eventId, driverId);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
         Optional<EventDriver> existingDriver = eventDriverRepository.findByEventIdAndDriverId(eventId, driverId);
         if (existingDriver.isPresent()) {
+            eventDriverIndex.addDrivers(List.of(existingDriver.get()));
             return existingDriver.get();
         }
 
@@ -112,7 +205,7 @@ public class EventService {
     /**
      * Converts a single Event to ListingEventsResponseDto.
      */
-    private ListingEventsResponseDto convertEventToResponseDto(Event event,
+    ListingEventsResponseDto convertEventToResponseDto(Event event,
             Map<String, List<EventDriver>> driversByEvent) {
         ListingEventsResponseDto dto = new ListingEventsResponseDto();
         dto.setEventId(event.getId());
@@ -134,18 +227,18 @@ public class EventService {
     /**
      * Converts a single EventDriver to DriverDto.
      */
-    private DriverDto convertEventDriverToDriverDto(EventDriver eventDriver) {
+    DriverDto convertEventDriverToDriverDto(EventDriver eventDriver) {
         DriverDto driverDto = new DriverDto();
         driverDto.setDriverId(eventDriver.getDriverId());
-        driverDto.setFullName(eventDriver.getFullName());
+        driverDto.setFullName(driverDictionary.fullName(eventDriver.getDriverId()));
         driverDto.setOdds(eventDriver.getOdds());
         return driverDto;
     }
 
     /**
-     * Fetches events from external provider and stores them in database.
+     * Fetches events and their drivers from the external provider. Does not touch the database.
      */
-    private List<ListingEventsResponseDto> fetchAndStoreEventsFromProvider(Integer year, String country,
+    private List<ListingEventsResponseDto> fetchEventsFromProvider(Integer year, String country,
             String sessionType, String provider) {
         F1Provider f1Provider = getProvider(provider);
         JsonNode sessionsArray = f1Provider.fetchRawSessions(year, country, sessionType);
@@ -154,41 +247,55 @@ public class EventService {
             return Collections.emptyList();
         }
 
-        List<ListingEventsResponseDto> events = new ArrayList<>();
+        // Each session needs its own drivers call, so map sessions concurrently on the provider executor
+        List<CompletableFuture<ListingEventsResponseDto>> mapped = new ArrayList<>();
         for (JsonNode sessionNode : sessionsArray) {
-            try {
-                ListingEventsResponseDto eventDto = buildResponseForListAPI(sessionNode);
-                events.add(eventDto);
-            } catch (Exception ex) {
-                log.warn("Skipped a session due to mapping error: {}", ex.getMessage());
-            }
+            mapped.add(CompletableFuture.supplyAsync(() -> buildResponseForListAPI(sessionNode, f1Provider),
+                    providerExecutor));
         }
 
-        if (events.isEmpty()) {
-            return Collections.emptyList();
+        List<ListingEventsResponseDto> events = new ArrayList<>();
+        for (CompletableFuture<ListingEventsResponseDto> future : mapped) {
+            try {
+                events.add(future.join());
+            } catch (CompletionException ex) {
+                log.warn("Skipped a session due to mapping error: {}", ex.getCause().getMessage());
+            }
         }
-
-        log.info("Save events from external call in our database to reduce API calls.");
-        events.forEach(this::storeEventIfNotExists);
         return events;
     }
 
     /**
-     * Stores an event in the database if it doesn't already exist.
-     * Also saves the drivers associated with the event.
+     * Stores an event and its drivers in one short transaction if the event doesn't already exist.
      */
     private void storeEventIfNotExists(ListingEventsResponseDto eventDto) {
         String eventId = eventDto.getEventId();
-        if (eventId != null && !eventRepository.existsById(eventId)) {
-            Event event = createEventFromDto(eventDto);
-            eventRepository.save(event);
-            log.debug("Stored new event in database: {} - {}", eventId, eventDto.getName());
-
-            // Save drivers for this event
-            if (eventDto.getDrivers() != null && !eventDto.getDrivers().isEmpty()) {
-                saveDriversForEvent(eventId, eventDto.getDrivers());
-                log.debug("Stored {} drivers for event: {}", eventDto.getDrivers().size(), eventId);
-            }
+        if (eventId == null) {
+            return;
+        }
+        List<EventDriver> savedDrivers;
+        try {
+            savedDrivers = writeTx.execute(status -> {
+                if (eventRepository.existsById(eventId)) {
+                    return null;
+                }
+                eventRepository.save(createEventFromDto(eventDto));
+                catalogChangeLog.eventAdded(eventId);
+                log.debug("Stored new event in database: {} - {}", eventId, eventDto.getName());
+                return persistDrivers(eventId, eventDto.getDrivers());
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Stored concurrently by another request
+            log.debug("Concurrent insert conflict while storing event {}: {}", eventId, ex.getMessage());
+            savedDrivers = null;
+        }
+
+        eventDriverIndex.addEvent(eventId);
+        marketClock.schedule(eventId, eventDto.getStartTime());
+        if (savedDrivers != null) {
+            listingCache.invalidate();
+            eventDriverIndex.addDrivers(savedDrivers);
+            log.debug("Stored {} drivers for event: {}", savedDrivers.size(), eventId);
         }
     }
 
@@ -211,7 +318,7 @@ public class EventService {
      * Creates EventDriver from external provider data.
      */
     private EventDriver createEventDriverFromProvider(String eventId, Integer driverId) {
-        List<DriverDto> drivers = buildDriversForSession(eventId);
+        List<DriverDto> drivers = buildDriversForSession(getProvider(null), eventId);
 
         if (drivers.isEmpty()) {
             throw new IllegalArgumentException("No drivers returned by provider for event: " + eventId);
@@ -222,31 +329,52 @@ public class EventService {
     }
 
     /**
-     * Saves all drivers for an event to the database.
+     * Saves all drivers for an event to the database in a short transaction of its own.
      */
-    @Transactional
     List<EventDriver> saveDriversForEvent(String eventId, List<DriverDto> drivers) {
         if (drivers == null || drivers.isEmpty())
             return Collections.emptyList();
 
-        List<EventDriver> toSave = drivers.stream().map(d -> {
-            EventDriver ed = new EventDriver();
-            ed.setId(eventId + ":" + d.getDriverId());
-            ed.setEventId(eventId);
-            ed.setDriverId(d.getDriverId());
-            ed.setFullName(d.getFullName());
-            ed.setOdds(d.getOdds());
-            return ed;
-        }).collect(Collectors.toList());
-
+        List<EventDriver> saved;
         try {
-            return eventDriverRepository.saveAll(toSave);
+            saved = writeTx.execute(status -> {
+                // Stored by a concurrent request since the caller looked: keep those odds, bets may use them
+                List<EventDriver> existing = eventDriverRepository.findByEventId(eventId);
+                return existing.isEmpty() ? persistDrivers(eventId, drivers) : existing;
+            });
         } catch (DataIntegrityViolationException ex) {
-            // concurrent insert occurred - reload canonical rows from DB
+            // concurrent insert occurred - reload canonical rows from the primary
             log.debug("Concurrent insert conflict while saving drivers for event {}: {}. Reloading from DB.",
                     eventId, ex.getMessage());
-            return eventDriverRepository.findByEventId(eventId);
+            saved = writeTx.execute(status -> eventDriverRepository.findByEventId(eventId));
         }
+        listingCache.invalidate();
+        eventDriverIndex.addDrivers(saved);
+        return saved;
+    }
+
+    /**
+     * Inserts the drivers of an event within the caller's transaction.
+     */
+    private List<EventDriver> persistDrivers(String eventId, List<DriverDto> drivers) {
+        if (drivers == null || drivers.isEmpty())
+            return Collections.emptyList();
+
+        driverDictionary.storeIfChanged(drivers);
+        List<EventDriver> toSave = drivers.stream().map(d -> {
+            EventDriver ed = new EventDriver(eventId, d.getDriverId());
+            ed.setOdds(d.getOdds());
+            return ed;
+        }).collect(Collectors.toList());
+
+        // EventDriver is Persistable, so these are inserts; flushing here surfaces a concurrent insert of the
+        // same event as DataIntegrityViolationException to the caller
+        List<EventDriver> saved = eventDriverRepository.saveAllAndFlush(toSave);
+        catalogChangeLog.oddsAdded(eventId);
+        // New odds for this event; streamed to subscribers after commit
+        eventPublisher.publishEvent(new EventUpdateDto(eventId, EventUpdateDto.TYPE_ODDS, null,
+                saved.stream().map(this::convertEventDriverToDriverDto).collect(Collectors.toList())));
+        return saved;
     }
 
     /**
@@ -265,7 +393,7 @@ public class EventService {
      * This method handles the business logic of converting raw API data to frontend
      * response format.
      */
-    private ListingEventsResponseDto buildResponseForListAPI(JsonNode sessionNode) {
+    ListingEventsResponseDto buildResponseForListAPI(JsonNode sessionNode, F1Provider f1Provider) {
         String sessionKey = sessionNode.path("session_key").isMissingNode() ? null
                 : sessionNode.path("session_key").asText();
         String sessionName = textOrNull(sessionNode, "session_name");
@@ -284,8 +412,8 @@ public class EventService {
         eventDto.setSessionType(sessionTypeVal);
         eventDto.setStartTime(parseStartTime(sessionNode));
 
-        // Fetch drivers for this session
-        List<DriverDto> drivers = buildDriversForSession(sessionKey);
+        // Fetch drivers for this session from the same provider that returned it
+        List<DriverDto> drivers = buildDriversForSession(f1Provider, sessionKey);
         eventDto.setDrivers(drivers);
 
         return eventDto;
@@ -297,8 +425,7 @@ public class EventService {
      * This method handles the business logic of converting raw API data to frontend
      * response format.
      */
-    private List<DriverDto> buildDriversForSession(String sessionKey) {
-        F1Provider f1Provider = getProvider("openf1");
+    private List<DriverDto> buildDriversForSession(F1Provider f1Provider, String sessionKey) {
         JsonNode driversArray = f1Provider.fetchRawDriversForSession(sessionKey);
 
         if (driversArray == null || !driversArray.isArray()) {
@@ -319,13 +446,15 @@ public class EventService {
     }
 
     /**
-     * Builds a DriverDto from raw driver JSON node.
+     * Builds a DriverDto from raw driver JSON node. Known drivers take their name from the dictionary.
      */
     private DriverDto buildDriverFromRawData(JsonNode driverNode) {
-        String driverNumber = textOrNull(driverNode, "driver_number");
+        JsonNode number = driverNode.get("driver_number");
+        int driverNumber = number != null && number.canConvertToInt() ? number.intValue()
+                : Integer.parseInt(textOrNull(driverNode, "driver_number"));
         DriverDto driverDto = new DriverDto();
-        driverDto.setDriverId(Integer.parseInt(driverNumber));
-        driverDto.setFullName(textOrNull(driverNode, "full_name"));
+        driverDto.setDriverId(driverNumber);
+        driverDto.setFullName(driverDictionary.resolve(driverNumber, driverNode).getFullName());
         driverDto.setOdds(RandomOdds.pick());
 
         return driverDto;
@@ -342,7 +471,7 @@ public class EventService {
     /**
      * Parses start time from session node.
      */
-    private Instant parseStartTime(JsonNode sessionNode) {
+    Instant parseStartTime(JsonNode sessionNode) {
         String dateStart = textOrNull(sessionNode, "date_start");
         if (dateStart == null) {
             return null;
@@ -360,7 +489,7 @@ public class EventService {
         }
     }
 
-    private static String textOrNull(JsonNode n, String key) {
+    static String textOrNull(JsonNode n, String key) {
         if (n == null || key == null)
             return null;
         JsonNode v = n.get(key);
@@ -5,5 +5,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 public interface F1Provider {
     JsonNode fetchRawSessions(Integer year, String country, String sessionType);
     JsonNode fetchRawDriversForSession(String sessionKey);
+    /**
+     * Classification of a finished session (one entry per driver with {@code position} and
+     * {@code driver_number}); null or empty while results are not published yet.
+     */
+    JsonNode fetchRawSessionResult(String sessionKey);
     String getName();
 }
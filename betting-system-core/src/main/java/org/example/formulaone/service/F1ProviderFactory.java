@@ -1,5 +1,7 @@
 package org.example.formulaone.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -13,6 +15,15 @@ public class F1ProviderFactory {
     private final F1Provider defaultProvider;
 
     public F1ProviderFactory(List<F1Provider> providers) {
+        this(providers, null);
+    }
+
+    /**
+     * @param defaultProviderName provider used when a request names none; the first provider if blank
+     */
+    @Autowired
+    public F1ProviderFactory(List<F1Provider> providers,
+            @Value("${openf1.default-provider:}") String defaultProviderName) {
         if (providers == null || providers.isEmpty()) {
             throw new IllegalStateException("No F1Provider beans available");
         }
@@ -20,7 +31,13 @@ public class F1ProviderFactory {
         providers.forEach(p -> {
             providersMap.put(p.getName().toLowerCase(Locale.ROOT), p);
         });
-        this.defaultProvider = providers.get(0);
+        if (defaultProviderName == null || defaultProviderName.isBlank()) {
+            this.defaultProvider = providers.get(0);
+        } else {
+            this.defaultProvider = providersMap.get(defaultProviderName.toLowerCase(Locale.ROOT));
+            if (this.defaultProvider == null)
+                throw new IllegalStateException("Default provider not found: " + defaultProviderName);
+        }
     }
 
     public F1Provider getProvider(String name) {
@@ -0,0 +1,245 @@
+package org.example.formulaone.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.BalanceMismatchDto;
+import org.example.formulaone.dto.ReconciliationReportDto;
+import org.example.formulaone.util.Constants;
+import org.example.formulaone.util.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks every user's balance against the ledger: gift balance, minus all stakes, plus the payouts of won bets.
+ *
+ * The user ID space is split into {@code partitions} ranges (by the leading bits of the UUID), which a fork/join
+ * pool of {@code parallelism} threads works through. Each range streams its bets ({@code user_id, stake, odds,
+ * status}, covered by idx_bets_user_placed) and then its users, summing in fixed-point minor units. A range is
+ * read in one read-only REPEATABLE READ transaction, so balances and bets come from the same snapshot without
+ * locking anything; bets placed or settled meanwhile cannot show up as mismatches. Read-only transactions go to
+ * the replica when one is configured.
+ */
+@Service
+@Slf4j
+public class LedgerReconciliationService {
+    private static final String BETS_SQL = "select user_id, stake, odds, status from bets where user_id >= ?";
+    private static final String USERS_SQL = "select id, balance from users where id >= ?";
+    private static final String BETS_UPPER_BOUND = " and user_id < ?";
+    private static final String USERS_UPPER_BOUND = " and id < ?";
+    private static final long GIFT_MINOR = Constants.GIFT_BALANCE.minorUnits();
+
+    /**
+     * Totals of one or more partitions.
+     */
+    private static final class Result {
+        long users;
+        long bets;
+        long mismatchCount;
+        final List<BalanceMismatchDto> mismatches = new ArrayList<>();
+
+        Result merge(Result other, int maxReported) {
+            users += other.users;
+            bets += other.bets;
+            mismatchCount += other.mismatchCount;
+            for (BalanceMismatchDto m : other.mismatches) {
+                if (mismatches.size() >= maxReported) {
+                    break;
+                }
+                mismatches.add(m);
+            }
+            return this;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTx;
+    private final ForkJoinPool pool;
+    private final int partitionBits;
+    private final int maxReported;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer duration;
+    private final Counter mismatchesFound;
+
+    @Autowired
+    public LedgerReconciliationService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${betting.reconciliation.partitions:64}") int partitions,
+            @Value("${betting.reconciliation.parallelism:4}") int parallelism,
+            @Value("${betting.reconciliation.fetch-size:1000}") int fetchSize,
+            @Value("${betting.reconciliation.max-reported:100}") int maxReported) {
+        if (partitions < 1 || partitions > 65536 || Integer.bitCount(partitions) != 1 || parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "betting.reconciliation.partitions must be a power of 2 up to 65536 and parallelism positive");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setReadOnly(true);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.partitionBits = Integer.numberOfTrailingZeros(partitions);
+        this.maxReported = maxReported;
+        // Each worker holds a connection while it streams, so never run more than parallelism of them:
+        // a worker blocked in join waits instead of the pool adding a compensating thread
+        this.pool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false,
+                0, parallelism, 1, p -> true, 60, TimeUnit.SECONDS);
+        this.duration = Timer.builder("reconciliation.duration")
+                .description("Time to reconcile all user balances")
+                .register(meterRegistry);
+        this.mismatchesFound = Counter.builder("reconciliation.mismatches")
+                .description("User balances that did not match the ledger")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconciles all balances and returns the report.
+     *
+     * @throws IllegalStateException if a reconciliation is already running
+     */
+    public ReconciliationReportDto reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("reconciliation already running");
+        }
+        try {
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            int partitions = 1 << partitionBits;
+            Result result = pool.invoke(new PartitionTask(0, partitions));
+            long elapsed = System.nanoTime() - start;
+            duration.record(elapsed, TimeUnit.NANOSECONDS);
+            mismatchesFound.increment(result.mismatchCount);
+
+            if (result.mismatchCount > 0) {
+                log.warn("Reconciliation found {} balance mismatches among {} users ({} bets)", result.mismatchCount,
+                        result.users, result.bets);
+            } else {
+                log.info("Reconciled {} users and {} bets in {} ms, no mismatches", result.users, result.bets,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+            return new ReconciliationReportDto(startedAt, TimeUnit.NANOSECONDS.toMillis(elapsed), partitions,
+                    result.users, result.bets, result.mismatchCount, result.mismatches);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Periodic run, disabled unless {@code betting.reconciliation.cron} is set.
+     */
+    @Scheduled(cron = "${betting.reconciliation.cron:-}")
+    public void scheduledRun() {
+        try {
+            reconcile();
+        } catch (IllegalStateException ex) {
+            log.info("Skipping scheduled reconciliation: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Splits a range of partitions in half until one partition is left, which is then reconciled.
+     */
+    private final class PartitionTask extends RecursiveTask<Result> {
+        private final int from;
+        private final int to;
+
+        PartitionTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from == 1) {
+                return snapshotTx.execute(status -> reconcilePartition(from));
+            }
+            int mid = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(from, mid);
+            PartitionTask right = new PartitionTask(mid, to);
+            left.fork();
+            Result rightResult = right.compute();
+            return left.join().merge(rightResult, maxReported);
+        }
+    }
+
+    /**
+     * Reconciles the users whose IDs fall in the partition. Runs inside the snapshot transaction.
+     */
+    private Result reconcilePartition(int partition) {
+        UUID lower = new UUID((long) partition << (64 - partitionBits), 0L);
+        UUID upper = partition + 1 < (1 << partitionBits)
+                ? new UUID((long) (partition + 1) << (64 - partitionBits), 0L)
+                : null;
+        Object[] bounds = upper != null ? new Object[] { lower, upper } : new Object[] { lower };
+
+        // Per user: {balance change from bets in minor units, bet count}
+        Map<UUID, long[]> ledger = new HashMap<>();
+        Result result = new Result();
+        jdbcTemplate.query(upper != null ? BETS_SQL + BETS_UPPER_BOUND : BETS_SQL, rs -> {
+            long stake = Money.of(rs.getBigDecimal(2)).minorUnits();
+            long change = -stake;
+            if (Constants.BET_STATUS_WON.equals(rs.getString(4))) {
+                change = Math.addExact(change, Money.multiplyByOdds(stake, rs.getInt(3)));
+            }
+            long[] entry = ledger.computeIfAbsent(rs.getObject(1, UUID.class), id -> new long[2]);
+            entry[0] = Math.addExact(entry[0], change);
+            entry[1]++;
+            result.bets++;
+        }, bounds);
+
+        jdbcTemplate.query(upper != null ? USERS_SQL + USERS_UPPER_BOUND : USERS_SQL, rs -> {
+            UUID userId = rs.getObject(1, UUID.class);
+            long[] entry = ledger.remove(userId);
+            long expected = entry == null ? GIFT_MINOR : Math.addExact(GIFT_MINOR, entry[0]);
+            long actual = Money.of(rs.getBigDecimal(2)).minorUnits();
+            result.users++;
+            if (actual != expected) {
+                mismatch(result, userId, expected, Money.ofMinor(actual).toBigDecimal(),
+                        entry == null ? 0 : entry[1]);
+            }
+        }, bounds);
+
+        // Bets whose user row is missing
+        for (Map.Entry<UUID, long[]> orphan : ledger.entrySet()) {
+            mismatch(result, orphan.getKey(), Math.addExact(GIFT_MINOR, orphan.getValue()[0]), null,
+                    orphan.getValue()[1]);
+        }
+        return result;
+    }
+
+    private void mismatch(Result result, UUID userId, long expectedMinor, BigDecimal actual, long bets) {
+        result.mismatchCount++;
+        if (result.mismatches.size() < maxReported) {
+            result.mismatches.add(new BalanceMismatchDto(userId, Money.ofMinor(expectedMinor).toBigDecimal(), actual,
+                    bets));
+        }
+        log.debug("Balance mismatch for user {}: expected {}, actual {}", userId, Money.ofMinor(expectedMinor),
+                actual);
+    }
+}
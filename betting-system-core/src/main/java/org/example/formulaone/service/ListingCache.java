@@ -0,0 +1,166 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.formulaone.dto.ListingEventsResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized {@code /events/list} responses per filter.
+ *
+ * Each entry holds the JSON bytes, a gzip copy and a strong ETag derived from the content, stamped with the
+ * catalog version it was built at. Storing events or drivers bumps the version, which makes every entry stale.
+ * Entries also expire after {@code max-age-ms} so catalog changes written by other nodes are picked up.
+ */
+@Component
+public class ListingCache {
+
+    /**
+     * One serialized listing. {@code gzip} is null when the body is too small to be worth compressing.
+     */
+    public record Entry(long version, long createdAtMillis, String etag, byte[] json, byte[] gzip) {
+
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        /**
+         * Weak comparison of an {@code If-None-Match} header against both representations.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.startsWith("W/")) {
+                    t = t.substring(2);
+                }
+                if (t.equals("*") || t.equals(etag) || (gzip != null && t.equals(gzipEtag()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxAgeMs;
+    private final int gzipMinBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ListingCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${betting.listing-cache.enabled:true}") boolean enabled,
+            @Value("${betting.listing-cache.max-entries:1024}") int maxEntries,
+            @Value("${betting.listing-cache.max-age-ms:60000}") long maxAgeMs,
+            @Value("${betting.listing-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxAgeMs = maxAgeMs;
+        this.gzipMinBytes = gzipMinBytes;
+        this.hits = Counter.builder("events.listing.serialized").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("events.listing.serialized").tag("result", "miss").register(meterRegistry);
+    }
+
+    public static String key(Integer year, String country, String sessionType) {
+        return year + "|" + country + "|" + sessionType;
+    }
+
+    public long version() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * Marks every cached listing stale. Call after events or drivers have been committed.
+     */
+    public void invalidate() {
+        catalogVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns the entry for the filter if it was built at the current catalog version and has not expired.
+     */
+    public Entry get(String key) {
+        Entry entry = enabled ? entries.get(key) : null;
+        if (entry == null || entry.version() != catalogVersion.get()
+                || System.currentTimeMillis() - entry.createdAtMillis() > maxAgeMs) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * Serializes the listing and caches it under the catalog version that was current before it was read.
+     */
+    public Entry put(String key, long version, List<ListingEventsResponseDto> events) {
+        Entry entry = serialize(version, events);
+        if (enabled && version == catalogVersion.get()) {
+            if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+                entries.clear();
+            }
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Serializes a listing without caching it.
+     */
+    public Entry serialize(List<ListingEventsResponseDto> events) {
+        return serialize(catalogVersion.get(), events);
+    }
+
+    private Entry serialize(long version, List<ListingEventsResponseDto> events) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(events);
+            byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+            return new Entry(version, System.currentTimeMillis(), etag(json), json, gzip);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize event listing", ex);
+        }
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
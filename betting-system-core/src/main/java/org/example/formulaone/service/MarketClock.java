@@ -0,0 +1,235 @@
+package org.example.formulaone.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.entity.Event;
+import org.example.formulaone.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open/closed state of each event's betting market, closed at the event's start time by a hashed timer wheel.
+ *
+ * Market state is a map lookup, so {@link #isOpen} costs no I/O for any event the clock has seen. Events are
+ * scheduled when loaded at startup or stored from a provider; an event first seen through a bet (e.g. stored by
+ * another node) is read once from the database. One thread advances the wheel every {@code tick-ms}; each of
+ * the {@code wheel-size} buckets holds the markets due in that slot, with a round count for later laps, so
+ * scheduling and expiry are O(1) regardless of how many markets are open.
+ *
+ * The same wheel evicts markets {@code retention-ms} after they close, leaving only their event ID in a set of
+ * closed events: start times never change, so a closed event is answered from memory for good and never read
+ * from the database again. Events without a start time, which never close, are evicted {@code retention-ms}
+ * after they were scheduled and read again on their next bet. Unknown events are not open. Open markets are
+ * counted as they open and close, so the gauge does not walk the map.
+ */
+@Component
+@Slf4j
+public class MarketClock {
+
+    private static final class Market {
+        final String eventId;
+        final long deadlineNanos;
+        // Events without a start time never close
+        final boolean alwaysOpen;
+        volatile boolean open = true;
+        // Wheel-thread state: when the market is next due (close, then eviction) and laps left until then
+        long dueNanos;
+        long remainingRounds;
+
+        Market(String eventId, long deadlineNanos, boolean alwaysOpen, long dueNanos) {
+            this.eventId = eventId;
+            this.deadlineNanos = deadlineNanos;
+            this.alwaysOpen = alwaysOpen;
+            this.dueNanos = dueNanos;
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private final Map<String, Market> markets = new ConcurrentHashMap<>();
+    // Events whose market has closed, kept after their Market is evicted
+    private final Set<String> closedEvents = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openMarkets = new AtomicInteger();
+    // New markets are handed to the wheel thread through this queue; only that thread touches the buckets
+    private final Queue<Market> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Market>[] wheel;
+    private final int mask;
+    private final long tickNanos;
+    private final long closeLeadMs;
+    private final long retentionNanos;
+    private final long startNanos = System.nanoTime();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public MarketClock(EventRepository eventRepository, MeterRegistry meterRegistry,
+            @Value("${betting.market.tick-ms:50}") long tickMs,
+            @Value("${betting.market.wheel-size:512}") int wheelSize,
+            @Value("${betting.market.close-lead-ms:0}") long closeLeadMs,
+            @Value("${betting.market.retention-ms:3600000}") long retentionMs) {
+        if (tickMs < 1 || wheelSize < 1 || Integer.bitCount(wheelSize) != 1 || retentionMs < 0) {
+            throw new IllegalArgumentException("betting.market.tick-ms must be positive, wheel-size a power of 2 "
+                    + "and retention-ms not negative");
+        }
+        this.eventRepository = eventRepository;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.closeLeadMs = closeLeadMs;
+        this.retentionNanos = TimeUnit.MILLISECONDS.toNanos(retentionMs);
+        this.mask = wheelSize - 1;
+        this.wheel = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        Gauge.builder("betting.markets.open", openMarkets, AtomicInteger::get)
+                .description("Event markets open for betting")
+                .register(meterRegistry);
+        this.worker = Thread.ofPlatform().name("market-clock").daemon().start(this::run);
+    }
+
+    /**
+     * Whether bets on the event are accepted. Events without a start time stay open; unknown events are not open.
+     */
+    public boolean isOpen(String eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        Market market = markets.get(eventId);
+        if (market == null) {
+            if (closedEvents.contains(eventId)) {
+                return false;
+            }
+            Optional<Event> event = eventRepository.findById(eventId);
+            if (event.isEmpty()) {
+                return false;
+            }
+            schedule(eventId, event.get().getStartTime());
+            market = markets.get(eventId);
+            if (market == null) {
+                // Already closed, or evicted again in between
+                return !closedEvents.contains(eventId) && event.get().getStartTime() == null;
+            }
+        }
+        if (market.alwaysOpen) {
+            return true;
+        }
+        // The deadline check keeps the close exact between wheel ticks
+        return market.open && System.nanoTime() - market.deadlineNanos < 0;
+    }
+
+    /**
+     * Schedules the event's market to close at its start time (less {@code close-lead-ms}).
+     * Already scheduled events are left alone; event start times never change once stored.
+     */
+    public void schedule(String eventId, Instant startTime) {
+        if (eventId == null || markets.containsKey(eventId) || closedEvents.contains(eventId)) {
+            return;
+        }
+        long now = System.nanoTime();
+        Market market;
+        if (startTime == null) {
+            market = new Market(eventId, 0, true, now + retentionNanos);
+        } else {
+            long delayMs = startTime.toEpochMilli() - closeLeadMs - System.currentTimeMillis();
+            if (delayMs <= 0) {
+                // Started already: nothing to schedule
+                closedEvents.add(eventId);
+                return;
+            }
+            long deadlineNanos = now + TimeUnit.MILLISECONDS.toNanos(delayMs);
+            market = new Market(eventId, deadlineNanos, false, deadlineNanos);
+        }
+        if (markets.putIfAbsent(eventId, market) == null) {
+            openMarkets.incrementAndGet();
+            pending.offer(market);
+        }
+    }
+
+    /**
+     * Number of markets held in full (open, recently closed or without a start time).
+     */
+    int trackedMarkets() {
+        return markets.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickNanos = startNanos + (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = nextTickNanos - System.nanoTime()) > 0 && running) {
+                LockSupport.parkNanos(this, sleep);
+            }
+            try {
+                transferPending();
+                expire(wheel[(int) (tick & mask)]);
+            } catch (RuntimeException ex) {
+                log.error("Unexpected error in market clock", ex);
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * Places newly scheduled markets in the bucket of the tick they are due in.
+     */
+    private void transferPending() {
+        Market market;
+        while ((market = pending.poll()) != null) {
+            // Tick t runs at startNanos + (t + 1) * tickNanos: pick the first tick at or after the due time
+            long dueTick = Math.max(tick, (market.dueNanos - startNanos + tickNanos - 1) / tickNanos - 1);
+            market.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (dueTick & mask)].add(market);
+        }
+    }
+
+    /**
+     * Closes the due markets and schedules their eviction; evicts those already closed (or always open).
+     */
+    private void expire(Queue<Market> bucket) {
+        Iterator<Market> it = bucket.iterator();
+        while (it.hasNext()) {
+            Market market = it.next();
+            if (market.remainingRounds > 0) {
+                market.remainingRounds--;
+                continue;
+            }
+            it.remove();
+            if (market.open && !market.alwaysOpen) {
+                market.open = false;
+                openMarkets.decrementAndGet();
+                log.info("Betting market closed for event {}", market.eventId);
+                closedEvents.add(market.eventId);
+                // Placed in its bucket on the next tick, never in the bucket being iterated
+                market.dueNanos = Math.max(market.deadlineNanos, System.nanoTime()) + retentionNanos;
+                pending.offer(market);
+            } else {
+                if (market.open) {
+                    openMarkets.decrementAndGet();
+                }
+                markets.remove(market.eventId, market);
+            }
+        }
+    }
+}
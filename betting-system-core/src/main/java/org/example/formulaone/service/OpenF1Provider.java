@@ -1,39 +1,72 @@
 package org.example.formulaone.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.example.formulaone.exceptions.HttpClientException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 /**
  * OpenF1 provider adapter.
  * Calls:
  * - GET {baseUrl}/v1/sessions
  * - GET {baseUrl}/v1/drivers?session_key={sessionKey}
+ * - GET {baseUrl}/v1/session_result?session_key={sessionKey}
  *
  * Maps provider JSON to EventDto and DriverDto (assigns random odds from
  * {2,3,4}).
  */
 @Service
 @Slf4j
+@Order(0) // first in the factory's list, so it stays the default provider
 public class OpenF1Provider implements F1Provider {
     private final IHttpClient httpClient;
     private final String baseUrl;
     private final boolean enabled;
-
-    public OpenF1Provider(final IHttpClient httpClient,
+    private final Semaphore inFlight;
+    private final MeterRegistry meterRegistry;
+    // Per endpoint, per outcome
+    private final Map<String, Map<String, Timer>> requestTimers = new HashMap<>();
+    private final ProviderSnapshotStore snapshotStore;
+    private final boolean recordSnapshots;
+
+    public OpenF1Provider(final IHttpClient httpClient, final MeterRegistry meterRegistry,
+            final ProviderSnapshotStore snapshotStore,
+            @Value("${openf1.snapshot.record:false}") final boolean recordSnapshots,
             @Value("${openf1.base-url:https://api.openf1.org}") final String baseUrl,
-            @Value("${openf1.enabled:true}") final boolean enabled) {
+            @Value("${openf1.enabled:true}") final boolean enabled,
+            @Value("${openf1.max-concurrent-requests:4}") final int maxConcurrentRequests) {
         this.httpClient = httpClient;
         this.baseUrl = baseUrl != null && baseUrl.endsWith("/")
                 ? baseUrl.substring(0, baseUrl.length() - 1)
                 : (baseUrl == null ? "https://api.openf1.org" : baseUrl);
         this.enabled = enabled;
+        // Sessions are mapped concurrently; cap parallel calls so we don't trip OpenF1 rate limits
+        this.inFlight = new Semaphore(maxConcurrentRequests, true);
+        this.meterRegistry = meterRegistry;
+        for (String endpoint : List.of("sessions", "drivers", "session_result")) {
+            Map<String, Timer> byOutcome = new HashMap<>();
+            for (String outcome : List.of("success", "rate_limited", "error")) {
+                byOutcome.put(outcome, Timer.builder("openf1.requests")
+                        .description("OpenF1 API calls")
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            requestTimers.put(endpoint, byOutcome);
+        }
+        this.snapshotStore = snapshotStore;
+        this.recordSnapshots = recordSnapshots;
     }
 
     /**
@@ -61,7 +94,7 @@ public class OpenF1Provider implements F1Provider {
         String url = baseUrl + "/v1/sessions";
         JsonNode root;
         try {
-            root = httpClient.getJson(url, filters);
+            root = getJson("sessions", url, filters);
         } catch (HttpClientException ex) {
             if (ex.getMessage().contains("429")) {
                 log.warn("Rate limit exceeded for OpenF1 sessions API. Returning null.");
@@ -80,6 +113,9 @@ public class OpenF1Provider implements F1Provider {
             return null;
         }
 
+        if (recordSnapshots) {
+            snapshotStore.put(ProviderSnapshotStore.sessionsKey(year, country, sessionType), sessionsArray);
+        }
         return sessionsArray;
     }
 
@@ -102,7 +138,7 @@ public class OpenF1Provider implements F1Provider {
 
         JsonNode root;
         try {
-            root = httpClient.getJson(url, queryParams);
+            root = getJson("drivers", url, queryParams);
         } catch (HttpClientException ex) {
             if (ex.getMessage().contains("429")) {
                 log.warn("Rate limit exceeded for OpenF1 drivers API. Returning null for session: {}",
@@ -122,9 +158,74 @@ public class OpenF1Provider implements F1Provider {
             return null;
         }
 
+        if (recordSnapshots) {
+            snapshotStore.put(ProviderSnapshotStore.driversKey(sessionKey), driversArray);
+        }
         return driversArray;
     }
 
+    /**
+     * Fetches the raw classification of a session. OpenF1 answers with an empty array until the
+     * session has finished and results are published; empty answers are not recorded as snapshots.
+     */
+    public JsonNode fetchRawSessionResult(String sessionKey) {
+        if (!enabled || sessionKey == null) {
+            return null;
+        }
+
+        String url = baseUrl + "/v1/session_result";
+        Map<String, String> queryParams = Collections.singletonMap("session_key", sessionKey);
+
+        JsonNode root;
+        try {
+            root = getJson("session_result", url, queryParams);
+        } catch (HttpClientException ex) {
+            if (ex.getMessage().contains("429")) {
+                log.warn("Rate limit exceeded for OpenF1 session_result API. Returning null for session: {}",
+                        sessionKey);
+            } else {
+                log.warn("Failed to call OpenF1 session_result for session {}: {}", sessionKey, ex.getMessage());
+            }
+            return null;
+        } catch (Exception ex) {
+            log.error("Unexpected error calling OpenF1 session_result for session " + sessionKey, ex);
+            return null;
+        }
+
+        JsonNode resultArray = (root != null && root.isArray()) ? root : (root != null ? root.path("data") : null);
+        if (resultArray == null || !resultArray.isArray()) {
+            log.debug("No session_result array in provider response for session {}", sessionKey);
+            return null;
+        }
+
+        if (recordSnapshots && !resultArray.isEmpty()) {
+            snapshotStore.put(ProviderSnapshotStore.sessionResultKey(sessionKey), resultArray);
+        }
+        return resultArray;
+    }
+
+    /**
+     * Calls the provider, recording latency tagged by endpoint and outcome (success, rate_limited, error).
+     */
+    private JsonNode getJson(String endpoint, String url, Map<String, String> queryParams) {
+        inFlight.acquireUninterruptibly();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            JsonNode result = httpClient.getJson(url, queryParams);
+            outcome = "success";
+            return result;
+        } catch (HttpClientException ex) {
+            if (ex.getMessage() != null && ex.getMessage().contains("429")) {
+                outcome = "rate_limited";
+            }
+            throw ex;
+        } finally {
+            inFlight.release();
+            sample.stop(requestTimers.get(endpoint).get(outcome));
+        }
+    }
+
     @Override
     public String getName() {
         return "openf1";
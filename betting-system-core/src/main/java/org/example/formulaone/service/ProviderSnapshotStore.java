@@ -0,0 +1,363 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only, gzip-compressed store of raw provider payloads, keyed by request.
+ *
+ * File layout is a sequence of records: {@code [int keyLength][key UTF-8][int payloadLength][gzip JSON]}.
+ * The key index is rebuilt by scanning the file on startup (later records win) and reads go through a
+ * read-only memory mapping of the file, so replaying a full season needs no network and no copying
+ * beyond decompression.
+ *
+ * The index keeps a CRC32C of each key's payload, so re-recording an unchanged payload appends nothing.
+ * Replaced payloads leave dead records behind; once they outweigh the live ones (and the file has reached
+ * {@code compact-min-mb}), or an append would pass {@code max-size-mb}, the live records are rewritten to a
+ * fresh file that atomically replaces the old one; a read racing a compaction retries.
+ * The store is off unless {@code openf1.snapshot.enabled} is set together with an absolute {@code dir}.
+ */
+@Component
+@Slf4j
+public class ProviderSnapshotStore {
+    private static final String FILE_NAME = "provider-snapshots.dat";
+    private static final String COMPACT_FILE_NAME = FILE_NAME + ".compact";
+    // A single read-only mapping is limited to 2 GB
+    private static final long MAPPING_LIMIT = Integer.MAX_VALUE;
+
+    private record Location(long recordOffset, int keyLength, int payloadLength, int checksum) {
+
+        long payloadOffset() {
+            return recordOffset + 8 + keyLength;
+        }
+
+        int recordLength() {
+            return 8 + keyLength + payloadLength;
+        }
+    }
+
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final long maxSize;
+    private final long compactMinSize;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private Path file;
+    private FileChannel channel;
+    private volatile MappedByteBuffer mapped;
+    // Even while readable, odd while a compaction swaps the file and the index
+    private volatile int generation;
+    private long size;
+    private long liveBytes;
+    private boolean full;
+
+    public ProviderSnapshotStore(ObjectMapper mapper,
+            @Value("${openf1.snapshot.enabled:false}") boolean enabled,
+            @Value("${openf1.snapshot.dir:}") String dir,
+            @Value("${openf1.snapshot.max-size-mb:1024}") long maxSizeMb,
+            @Value("${openf1.snapshot.compact-min-mb:64}") long compactMinMb) {
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.maxSize = Math.min(MAPPING_LIMIT, maxSizeMb * 1024 * 1024);
+        this.compactMinSize = compactMinMb * 1024 * 1024;
+        if (enabled) {
+            if (dir == null || dir.isBlank() || !Paths.get(dir).isAbsolute()) {
+                throw new IllegalArgumentException(
+                        "openf1.snapshot.dir must be an absolute path when openf1.snapshot.enabled is set");
+            }
+            open(Paths.get(dir));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Appends a payload under the given key. Replaces any previous payload for the key; an identical payload
+     * is not appended again.
+     */
+    public void put(String key, JsonNode payload) {
+        if (!enabled || key == null || payload == null) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compress(payload);
+        CRC32C crc = new CRC32C();
+        crc.update(compressed);
+        int checksum = (int) crc.getValue();
+
+        ByteBuffer record = ByteBuffer.allocate(8 + keyBytes.length + compressed.length);
+        record.putInt(keyBytes.length).put(keyBytes).putInt(compressed.length).put(compressed).flip();
+
+        synchronized (this) {
+            Location previous = index.get(key);
+            if (previous != null && previous.checksum() == checksum && sameBytes(previous, compressed)) {
+                log.debug("Snapshot for key {} unchanged, not recording", key);
+                return;
+            }
+            long garbage = size - liveBytes;
+            if (size + record.limit() > maxSize
+                    || (size >= compactMinSize && garbage > liveBytes)) {
+                compact();
+            }
+            if (size + record.limit() > maxSize) {
+                if (!full) {
+                    full = true;
+                    log.warn("Snapshot store is full ({} bytes of live payloads), not recording new keys until "
+                            + "openf1.snapshot.max-size-mb is raised", liveBytes);
+                }
+                return;
+            }
+            full = false;
+
+            long recordOffset = size;
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record, size + record.position());
+                }
+            } catch (IOException ex) {
+                log.warn("Failed to append snapshot for key {}: {}", key, ex.getMessage());
+                return;
+            }
+            size = recordOffset + record.limit();
+            Location location = new Location(recordOffset, keyBytes.length, compressed.length, checksum);
+            liveBytes += location.recordLength() - (previous == null ? 0 : previous.recordLength());
+            index.put(key, location);
+        }
+    }
+
+    public Optional<JsonNode> get(String key) {
+        if (!enabled || key == null) {
+            return Optional.empty();
+        }
+        byte[] compressed;
+        while (true) {
+            int seen = generation;
+            if ((seen & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            Location location = index.get(key);
+            if (location == null) {
+                return Optional.empty();
+            }
+            long end = location.payloadOffset() + location.payloadLength();
+            MappedByteBuffer buffer = mappedCovering(end);
+            if (buffer.capacity() < end) {
+                // Location from before a compaction that shrank the file
+                continue;
+            }
+            compressed = new byte[location.payloadLength()];
+            buffer.get((int) location.payloadOffset(), compressed);
+            if (generation == seen) {
+                break;
+            }
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return Optional.of(mapper.readTree(in));
+        } catch (IOException ex) {
+            log.warn("Corrupt snapshot for key {}: {}", key, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void open(Path dir) {
+        try {
+            Files.createDirectories(dir);
+            file = dir.resolve(FILE_NAME);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            size = loadIndex();
+            log.info("Opened provider snapshot store {} with {} keys ({} bytes, {} live)", file, index.size(), size,
+                    liveBytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open snapshot store in " + dir, ex);
+        }
+    }
+
+    /**
+     * Scans all records and returns the offset just past the last complete one.
+     * A torn trailing record (e.g. after a crash mid-append) is truncated.
+     */
+    private long loadIndex() throws IOException {
+        long fileSize = Math.min(channel.size(), MAPPING_LIMIT);
+        if (fileSize == 0) {
+            return 0;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        long position = 0;
+        CRC32C crc = new CRC32C();
+        while (position + 4 <= fileSize) {
+            int keyLength = buffer.getInt((int) position);
+            long payloadLengthAt = position + 4 + keyLength;
+            if (keyLength <= 0 || payloadLengthAt + 4 > fileSize) {
+                break;
+            }
+            int payloadLength = buffer.getInt((int) payloadLengthAt);
+            long payloadOffset = payloadLengthAt + 4;
+            if (payloadLength < 0 || payloadOffset + payloadLength > fileSize) {
+                break;
+            }
+            byte[] keyBytes = new byte[keyLength];
+            buffer.get((int) position + 4, keyBytes);
+            crc.reset();
+            crc.update(buffer.slice((int) payloadOffset, payloadLength));
+            Location location = new Location(position, keyLength, payloadLength, (int) crc.getValue());
+            Location previous = index.put(new String(keyBytes, StandardCharsets.UTF_8), location);
+            liveBytes += location.recordLength() - (previous == null ? 0 : previous.recordLength());
+            position = payloadOffset + payloadLength;
+        }
+        if (position < channel.size()) {
+            log.warn("Truncating {} trailing bytes of incomplete snapshot record", channel.size() - position);
+            channel.truncate(position);
+        }
+        mapped = buffer;
+        return position;
+    }
+
+    /**
+     * Rewrites the live records to a new file and swaps it in. Caller holds the monitor.
+     */
+    private void compact() {
+        if (size == liveBytes) {
+            return;
+        }
+        long before = size;
+        Path compactFile = file.resolveSibling(COMPACT_FILE_NAME);
+        MappedByteBuffer source = mappedCovering(size);
+        Map<String, Location> moved = new HashMap<>(index.size() * 2);
+        FileChannel target = null;
+        try {
+            target = FileChannel.open(compactFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            long position = 0;
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                ByteBuffer record = source.slice((int) location.recordOffset(), location.recordLength());
+                while (record.hasRemaining()) {
+                    target.write(record, position + record.position());
+                }
+                moved.put(entry.getKey(), new Location(position, location.keyLength(), location.payloadLength(),
+                        location.checksum()));
+                position += location.recordLength();
+            }
+            target.force(true);
+            MappedByteBuffer compacted = target.map(FileChannel.MapMode.READ_ONLY, 0, position);
+            Files.move(compactFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            generation++;
+            channel.close();
+            channel = target;
+            mapped = compacted;
+            index.putAll(moved);
+            size = position;
+            liveBytes = position;
+            generation++;
+        } catch (IOException ex) {
+            log.warn("Snapshot store compaction failed, keeping the current file: {}", ex.getMessage());
+            if (target != null && target != channel) {
+                try {
+                    target.close();
+                    Files.deleteIfExists(compactFile);
+                } catch (IOException ignored) {
+                    // Leftover file is truncated by the next compaction
+                }
+            }
+            return;
+        }
+        log.info("Compacted provider snapshot store from {} to {} bytes ({} keys)", before, size, index.size());
+    }
+
+    private boolean sameBytes(Location location, byte[] compressed) {
+        if (location.payloadLength() != compressed.length) {
+            return false;
+        }
+        byte[] stored = new byte[compressed.length];
+        mappedCovering(location.payloadOffset() + location.payloadLength()).get((int) location.payloadOffset(),
+                stored);
+        return Arrays.equals(stored, compressed);
+    }
+
+    private MappedByteBuffer mappedCovering(long end) {
+        MappedByteBuffer current = mapped;
+        if (current != null && current.capacity() >= end) {
+            return current;
+        }
+        synchronized (this) {
+            if (mapped == null || mapped.capacity() < end) {
+                try {
+                    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Cannot map snapshot store", ex);
+                }
+            }
+            return mapped;
+        }
+    }
+
+    private byte[] compress(JsonNode payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, payload);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot compress snapshot payload", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Snapshot key for a sessions request; filters are normalised so equivalent requests share a key.
+     */
+    public static String sessionsKey(Integer year, String country, String sessionType) {
+        return "sessions?year=" + (year == null ? "" : year)
+                + "&country=" + (country == null ? "" : country.trim().toLowerCase(Locale.ROOT))
+                + "&session=" + (sessionType == null ? "" : sessionType.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public static String driversKey(String sessionKey) {
+        return "drivers?session_key=" + sessionKey;
+    }
+
+    public static String sessionResultKey(String sessionKey) {
+        return "session_result?session_key=" + sessionKey;
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.OutcomeRequestDto;
+import org.example.formulaone.entity.Event;
+import org.example.formulaone.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Settles finished events from provider results, so payouts need no manual {@code POST /events/{id}/outcome}.
+ *
+ * Every {@code poll-interval-ms} the poller picks events without an outcome that started between
+ * {@code lookback-hours} and {@code finish-delay-ms} ago, fetches up to {@code batch-size} session results
+ * concurrently and settles each event whose classification has a winner. Events whose results are not
+ * published yet are retried with exponential backoff (up to {@code max-backoff-ms}). Several nodes may run it:
+ * the outcome is set at most once, so a node that loses the race just moves on.
+ *
+ * Polls run on the poller's own thread, so fetching results and settling events (inline, or just queueing a
+ * settlement job when {@code betting.settlement.distributed} is set) never hold up the shared scheduler thread
+ * that also drives the settlement workers and the reconciliation cron. A poll still running when the next one
+ * is due is not overlapped.
+ */
+@Component
+@ConditionalOnProperty(name = "betting.results.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ResultPoller {
+
+    private record Backoff(long nextAttemptMillis, long delayMs) {}
+
+    private final EventRepository eventRepository;
+    private final F1ProviderFactory providerFactory;
+    private final SettlementService settlementService;
+    private final ExecutorService providerExecutor;
+    private final String providerName;
+    private final long finishDelayMs;
+    private final long lookbackMs;
+    private final int batchSize;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Map<String, Backoff> backoffs = new ConcurrentHashMap<>();
+    private final Counter settled;
+    private final Counter pending;
+    private final Counter alreadySettled;
+    private final Counter failed;
+    private final ExecutorService pollExecutor;
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    @Autowired
+    public ResultPoller(EventRepository eventRepository, F1ProviderFactory providerFactory,
+            SettlementService settlementService, @Qualifier("providerExecutor") ExecutorService providerExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${betting.results.provider:}") String providerName,
+            @Value("${betting.results.finish-delay-ms:5400000}") long finishDelayMs,
+            @Value("${betting.results.lookback-hours:168}") long lookbackHours,
+            @Value("${betting.results.batch-size:20}") int batchSize,
+            @Value("${betting.results.initial-backoff-ms:60000}") long initialBackoffMs,
+            @Value("${betting.results.max-backoff-ms:600000}") long maxBackoffMs) {
+        if (batchSize < 1 || initialBackoffMs < 1 || maxBackoffMs < initialBackoffMs) {
+            throw new IllegalArgumentException(
+                    "betting.results.batch-size must be positive and max-backoff-ms >= initial-backoff-ms");
+        }
+        this.eventRepository = eventRepository;
+        this.providerFactory = providerFactory;
+        this.settlementService = settlementService;
+        this.providerExecutor = providerExecutor;
+        this.providerName = providerName;
+        this.finishDelayMs = finishDelayMs;
+        this.lookbackMs = lookbackHours * 3_600_000L;
+        this.batchSize = batchSize;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.settled = Counter.builder("results.polled").tag("result", "settled").register(meterRegistry);
+        this.pending = Counter.builder("results.polled").tag("result", "pending").register(meterRegistry);
+        this.alreadySettled = Counter.builder("results.polled").tag("result", "already_settled")
+                .register(meterRegistry);
+        this.failed = Counter.builder("results.polled").tag("result", "error").register(meterRegistry);
+        this.pollExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("result-poller").factory());
+        log.info("Result polling enabled: events {} ms after start, batches of {}", finishDelayMs, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${betting.results.poll-interval-ms:60000}",
+            initialDelayString = "${betting.results.initial-delay-ms:30000}")
+    public void poll() {
+        if (!polling.compareAndSet(false, true)) {
+            log.debug("Previous result poll still running, skipping");
+            return;
+        }
+        try {
+            pollExecutor.execute(() -> {
+                try {
+                    pollOnce();
+                } catch (RuntimeException ex) {
+                    log.warn("Result poll failed: {}", ex.getMessage(), ex);
+                } finally {
+                    polling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Shutting down
+            polling.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pollExecutor.shutdownNow();
+    }
+
+    private void pollOnce() {
+        long now = System.currentTimeMillis();
+        Instant finishedBefore = Instant.ofEpochMilli(now - finishDelayMs);
+        List<Event> candidates = eventRepository.findUnsettledStartedBetween(
+                finishedBefore.minusMillis(lookbackMs), finishedBefore);
+
+        // Drop backoff state of events that were settled elsewhere or fell out of the window
+        Set<String> candidateIds = candidates.stream().map(Event::getId).collect(Collectors.toSet());
+        backoffs.keySet().retainAll(candidateIds);
+
+        List<String> due = new ArrayList<>(batchSize);
+        for (Event event : candidates) {
+            Backoff backoff = backoffs.get(event.getId());
+            if (backoff == null || backoff.nextAttemptMillis() <= now) {
+                due.add(event.getId());
+                if (due.size() == batchSize) {
+                    break;
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        F1Provider provider = providerFactory.getProvider(providerName);
+        List<CompletableFuture<Integer>> winners = new ArrayList<>(due.size());
+        for (String eventId : due) {
+            winners.add(CompletableFuture.supplyAsync(() -> winnerOf(provider.fetchRawSessionResult(eventId)),
+                    providerExecutor).exceptionally(ex -> {
+                        log.warn("Fetching result of event {} failed: {}", eventId, ex.getMessage());
+                        return null;
+                    }));
+        }
+
+        int settledNow = 0;
+        for (int i = 0; i < due.size(); i++) {
+            String eventId = due.get(i);
+            Integer winner = winners.get(i).join();
+            if (winner == null) {
+                pending.increment();
+                backOff(eventId, now);
+            } else if (settle(eventId, winner)) {
+                settledNow++;
+            }
+        }
+        if (settledNow > 0) {
+            log.info("Result poll: {} of {} events settled ({} finished events unsettled)", settledNow, due.size(),
+                    candidates.size() - settledNow);
+        } else {
+            log.debug("Result poll: none of {} events settled ({} finished events unsettled)", due.size(),
+                    candidates.size());
+        }
+    }
+
+    private boolean settle(String eventId, int winner) {
+        try {
+            settlementService.settleEvent(eventId, new OutcomeRequestDto(winner));
+            settled.increment();
+            backoffs.remove(eventId);
+            log.info("Settled event {} from provider result, winner {}", eventId, winner);
+            return true;
+        } catch (IllegalStateException ex) {
+            // Outcome set by another node or by hand since the event was read
+            alreadySettled.increment();
+            backoffs.remove(eventId);
+            return false;
+        } catch (RuntimeException ex) {
+            failed.increment();
+            backOff(eventId, System.currentTimeMillis());
+            log.warn("Settling event {} from provider result failed: {}", eventId, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void backOff(String eventId, long now) {
+        Backoff previous = backoffs.get(eventId);
+        long delay = previous == null ? initialBackoffMs : Math.min(maxBackoffMs, previous.delayMs() * 2);
+        backoffs.put(eventId, new Backoff(now + delay, delay));
+    }
+
+    /**
+     * Driver number classified first, or null if the result is empty or has no winner yet.
+     */
+    static Integer winnerOf(JsonNode result) {
+        if (result == null || !result.isArray()) {
+            return null;
+        }
+        for (JsonNode entry : result) {
+            JsonNode driverNumber = entry.path("driver_number");
+            if (entry.path("position").asInt(0) == 1 && driverNumber.canConvertToInt()) {
+                return driverNumber.asInt();
+            }
+        }
+        return null;
+    }
+}
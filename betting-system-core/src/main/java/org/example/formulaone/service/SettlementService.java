@@ -1,34 +1,78 @@
 package org.example.formulaone.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.BetStatusUpdateDto;
+import org.example.formulaone.dto.EventUpdateDto;
 import org.example.formulaone.dto.OutcomeRequestDto;
 import org.example.formulaone.dto.OutcomeResponseDto;
 import org.example.formulaone.entity.Bet;
+import org.example.formulaone.entity.SettlementJob;
 import org.example.formulaone.repository.BetRepository;
 import org.example.formulaone.repository.EventRepository;
+import org.example.formulaone.repository.SettlementJobRepository;
+import org.example.formulaone.stream.BetsSettledEvent;
+import org.example.formulaone.util.Constants;
+import org.example.formulaone.util.Money;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
 
 /**
  * Service for settling event outcomes and calculating payouts.
+ *
+ * With {@code betting.settlement.distributed} enabled, posting an outcome only records it and queues a
+ * {@link SettlementJob}; the bets are then settled in chunks by {@link SettlementWorker}s on any node.
  */
 @Service
 @Slf4j
 public class SettlementService {
     private final EventRepository eventRepository;
     private final BetRepository betRepository;
+    private final SettlementJobRepository settlementJobRepository;
     private final UserService userService;
+    private final CatalogChangeLog catalogChangeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean distributed;
+    private final Timer settleTimer;
+    private final Counter betsWon;
+    private final Counter betsLost;
+    private final DistributionSummary eventPayout;
 
     @Autowired
     public SettlementService(EventRepository eventRepository, BetRepository betRepository,
-            UserService userService) {
+            SettlementJobRepository settlementJobRepository, UserService userService,
+            CatalogChangeLog catalogChangeLog, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+            @Value("${betting.settlement.distributed:false}") boolean distributed) {
         this.eventRepository = eventRepository;
         this.betRepository = betRepository;
+        this.settlementJobRepository = settlementJobRepository;
         this.userService = userService;
+        this.catalogChangeLog = catalogChangeLog;
+        this.eventPublisher = eventPublisher;
+        this.distributed = distributed;
+        this.settleTimer = Timer.builder("settlement.duration")
+                .description("Time to settle all bets of an event")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.betsWon = Counter.builder("settlement.bets").tag("result", "won").register(meterRegistry);
+        this.betsLost = Counter.builder("settlement.bets").tag("result", "lost").register(meterRegistry);
+        this.eventPayout = DistributionSummary.builder("settlement.payout")
+                .description("Total payout per settled event, in the betting currency")
+                .register(meterRegistry);
     }
 
     /**
@@ -36,6 +80,10 @@ public class SettlementService {
      */
     @Transactional
     public OutcomeResponseDto settleEvent(String eventId, OutcomeRequestDto req) {
+        return settleTimer.record(() -> doSettleEvent(eventId, req));
+    }
+
+    private OutcomeResponseDto doSettleEvent(String eventId, OutcomeRequestDto req) {
         if (eventId == null || req == null || req.getWinnerDriverId() == null) {
             throw new IllegalArgumentException("missing eventId or winnerDriverId");
         }
@@ -45,44 +93,153 @@ public class SettlementService {
         if (updated == 0) {
             throw new IllegalStateException("outcome already set");
         }
+        catalogChangeLog.outcomeSet(eventId);
 
-        List<Bet> bets = betRepository.findByEventIdAndStatus(eventId, "PENDING");
-        int settled = 0;
-        BigDecimal totalPayout = BigDecimal.ZERO;
-
-        for (Bet bet : bets) {
-            bet.setSettledAt(java.time.Instant.now());
-
-            if (req.getWinnerDriverId().equals(bet.getDriverId())) {
-                bet.setStatus("WON");
-                BigDecimal payout = calculatePayout(bet);
-                userService.creditBalance(bet.getUserId(), payout);
-                totalPayout = totalPayout.add(payout);
-                log.info("Bet {} won, payout: {}", bet.getId(), payout);
-            } else {
-                bet.setStatus("LOST");
-                log.info("Bet {} lost", bet.getId());
-            }
-
-            betRepository.save(bet);
-            settled++;
+        EventUpdateDto outcome = new EventUpdateDto(eventId, EventUpdateDto.TYPE_OUTCOME, req.getWinnerDriverId(), null);
+        if (distributed) {
+            return enqueue(eventId, req.getWinnerDriverId(), outcome);
         }
 
+        List<Bet> bets = betRepository.findByEventIdAndStatus(eventId, Constants.BET_STATUS_PENDING);
+        List<BetStatusUpdateDto> updates = new ArrayList<>(bets.size());
+        Money totalPayout = settleBets(bets, req.getWinnerDriverId(), updates);
+
         OutcomeResponseDto response = new OutcomeResponseDto();
         response.setEventId(eventId);
         response.setWinnerDriverId(req.getWinnerDriverId());
-        response.setBetsSettled(settled);
-        response.setTotalPayout(totalPayout);
+        response.setBetsSettled(bets.size());
+        response.setTotalPayout(totalPayout.toBigDecimal());
+        response.setSettlementStatus(Constants.SETTLEMENT_COMPLETED);
+        eventPayout.record(response.getTotalPayout().doubleValue());
+
+        // Streamed to subscribers after commit
+        eventPublisher.publishEvent(new BetsSettledEvent(outcome, updates));
 
-        log.info("Settled {} bets for event {}, total payout: {}", settled, eventId, totalPayout);
+        log.info("Settled {} bets for event {}, total payout: {}", bets.size(), eventId, response.getTotalPayout());
         return response;
     }
 
     /**
-     * Calculates payout for a winning bet.
+     * Queues the event for the settlement workers, in the same transaction that recorded the outcome.
+     */
+    private OutcomeResponseDto enqueue(String eventId, Integer winnerDriverId, EventUpdateDto outcome) {
+        SettlementJob job = new SettlementJob();
+        job.setEventId(eventId);
+        job.setWinnerDriverId(winnerDriverId);
+        settlementJobRepository.save(job);
+
+        eventPublisher.publishEvent(new BetsSettledEvent(outcome, List.of()));
+        log.info("Queued settlement of event {}", eventId);
+        return toResponse(job);
+    }
+
+    /**
+     * Claims up to {@code chunkSize} pending bets of the event and settles them.
+     * Rows locked by other workers are skipped, so concurrent workers never settle the same bet.
+     *
+     * @return the number of bets settled; 0 when nothing was left to claim
+     */
+    @Transactional
+    public int settleChunk(String eventId, Integer winnerDriverId, int chunkSize) {
+        List<Bet> bets = betRepository.claimPendingChunk(eventId, chunkSize);
+        if (bets.isEmpty()) {
+            return 0;
+        }
+        List<BetStatusUpdateDto> updates = new ArrayList<>(bets.size());
+        settleBets(bets, winnerDriverId, updates);
+
+        eventPublisher.publishEvent(new BetsSettledEvent(null, updates));
+        log.debug("Settled chunk of {} bets for event {}", bets.size(), eventId);
+        return bets.size();
+    }
+
+    /**
+     * Marks the event's job DONE once no pending bets remain. Only the caller that completes it gets true.
+     */
+    @Transactional
+    public boolean completeJobIfDone(String eventId) {
+        if (settlementJobRepository.markDoneIfComplete(eventId, Instant.now()) == 0) {
+            return false;
+        }
+        settlementJobRepository.findById(eventId).ifPresent(job -> {
+            eventPayout.record(job.getTotalPayout().toBigDecimal().doubleValue());
+            log.info("Settled {} bets for event {}, total payout: {}", job.getBetsSettled(), eventId,
+                    job.getTotalPayout());
+        });
+        return true;
+    }
+
+    /**
+     * Returns the progress of a queued settlement. Totals of a job still running are read from its bets.
+     */
+    @Transactional(readOnly = true)
+    public OutcomeResponseDto getSettlement(String eventId) {
+        SettlementJob job = settlementJobRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("No settlement queued for event: " + eventId));
+        if (!SettlementJob.STATUS_OPEN.equals(job.getStatus())) {
+            return toResponse(job);
+        }
+        int betsSettled = (int) betRepository.countByEventIdAndStatusIn(eventId,
+                List.of(Constants.BET_STATUS_WON, Constants.BET_STATUS_LOST));
+        return new OutcomeResponseDto(eventId, job.getWinnerDriverId(), betsSettled,
+                Money.of(betRepository.sumWonPayout(eventId)).toBigDecimal(),
+                betsSettled > 0 ? Constants.SETTLEMENT_IN_PROGRESS : Constants.SETTLEMENT_QUEUED);
+    }
+
+    /**
+     * Settles the given pending bets against the winner, crediting winners.
+     * Payouts are summed per user as {@link Money} and credited with one batched update per user (in user ID
+     * order, so concurrent chunks lock users in the same order); amounts become {@link BigDecimal}s only in the
+     * status updates and the credit statements. Adds a status update per bet to {@code updates} and returns
+     * the total payout.
+     */
+    private Money settleBets(List<Bet> bets, Integer winnerDriverId, List<BetStatusUpdateDto> updates) {
+        int winner = winnerDriverId;
+        Instant settledAt = Instant.now();
+        Map<UUID, Money> payouts = new TreeMap<>();
+        long totalPayoutMinor = 0;
+        int won = 0;
+        for (Bet bet : bets) {
+            bet.setSettledAt(settledAt);
+
+            if (bet.getDriverId() != null && bet.getDriverId() == winner) {
+                bet.setStatus(Constants.BET_STATUS_WON);
+                long payoutMinor = calculatePayout(bet);
+                payouts.merge(bet.getUserId(), Money.ofMinor(payoutMinor), Money::plus);
+                totalPayoutMinor = Math.addExact(totalPayoutMinor, payoutMinor);
+                won++;
+                updates.add(toStatusUpdate(bet, BigDecimal.valueOf(payoutMinor, Money.SCALE)));
+                log.debug("Bet {} won, payout (minor units): {}", bet.getId(), payoutMinor);
+            } else {
+                bet.setStatus(Constants.BET_STATUS_LOST);
+                updates.add(toStatusUpdate(bet, BigDecimal.ZERO));
+                log.debug("Bet {} lost", bet.getId());
+            }
+        }
+        betRepository.saveAll(bets);
+        userService.creditAll(payouts);
+        betsWon.increment(won);
+        betsLost.increment(bets.size() - won);
+        return Money.ofMinor(totalPayoutMinor);
+    }
+
+    private static OutcomeResponseDto toResponse(SettlementJob job) {
+        String status = SettlementJob.STATUS_DONE.equals(job.getStatus()) ? Constants.SETTLEMENT_COMPLETED
+                : Constants.SETTLEMENT_QUEUED;
+        return new OutcomeResponseDto(job.getEventId(), job.getWinnerDriverId(), job.getBetsSettled(),
+                job.getTotalPayout().toBigDecimal(), status);
+    }
+
+    private static BetStatusUpdateDto toStatusUpdate(Bet bet, BigDecimal payout) {
+        return new BetStatusUpdateDto(bet.getId(), bet.getUserId(), bet.getEventId(), bet.getDriverId(),
+                bet.getStatus(), payout, bet.getSettledAt());
+    }
+
+    /**
+     * Calculates payout for a winning bet in minor units (stake x odds, overflow-checked).
      */
-    private BigDecimal calculatePayout(Bet bet) {
-        return bet.getStake().multiply(BigDecimal.valueOf(bet.getOdds()));
+    static long calculatePayout(Bet bet) {
+        return Money.multiplyByOdds(bet.getStake().minorUnits(), bet.getOdds());
     }
 
 }
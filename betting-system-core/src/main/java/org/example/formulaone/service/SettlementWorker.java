@@ -0,0 +1,101 @@
+package org.example.formulaone.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.entity.SettlementJob;
+import org.example.formulaone.repository.SettlementJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Settles queued events in parallel, on every node that runs it.
+ *
+ * Each poll starts {@code betting.settlement.workers} claimers that repeatedly lock a chunk of pending bets
+ * with {@code FOR UPDATE SKIP LOCKED}, settle it and commit, until no open job has pending bets left.
+ * Claimers on this and other nodes never see each other's locked rows, so a bet is settled exactly once
+ * and one large event is spread over all workers. A job is marked DONE by whichever worker finds it drained.
+ */
+@Component
+@ConditionalOnProperty(name = "betting.settlement.distributed", havingValue = "true")
+@Slf4j
+public class SettlementWorker {
+    private final SettlementService settlementService;
+    private final SettlementJobRepository settlementJobRepository;
+    private final ExecutorService executor;
+    private final int workers;
+    private final int chunkSize;
+
+    @Autowired
+    public SettlementWorker(SettlementService settlementService, SettlementJobRepository settlementJobRepository,
+            @Value("${betting.settlement.workers:4}") int workers,
+            @Value("${betting.settlement.chunk-size:500}") int chunkSize) {
+        if (workers < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("betting.settlement.workers and chunk-size must be positive");
+        }
+        this.settlementService = settlementService;
+        this.settlementJobRepository = settlementJobRepository;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("settlement-", 0).factory());
+        log.info("Distributed settlement enabled: {} workers, chunks of {} bets", workers, chunkSize);
+    }
+
+    @Scheduled(fixedDelayString = "${betting.settlement.poll-interval-ms:1000}")
+    public void poll() {
+        List<SettlementJob> jobs = settlementJobRepository.findByStatusOrderByCreatedAt(SettlementJob.STATUS_OPEN);
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        List<Callable<Integer>> claimers = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            claimers.add(() -> drain(jobs));
+        }
+        int settled = 0;
+        try {
+            for (Future<Integer> result : executor.invokeAll(claimers)) {
+                settled += result.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException ex) {
+            log.warn("Settlement worker failed, remaining bets are retried on the next poll", ex.getCause());
+        }
+
+        for (SettlementJob job : jobs) {
+            settlementService.completeJobIfDone(job.getEventId());
+        }
+        log.debug("Settlement poll settled {} bets across {} jobs", settled, jobs.size());
+    }
+
+    /**
+     * Settles chunks of every job until none has unclaimed pending bets.
+     */
+    private int drain(List<SettlementJob> jobs) {
+        int settled = 0;
+        for (SettlementJob job : jobs) {
+            int n;
+            while ((n = settlementService.settleChunk(job.getEventId(), job.getWinnerDriverId(), chunkSize)) > 0) {
+                settled += n;
+            }
+        }
+        return settled;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Serves provider payloads previously recorded in the {@link ProviderSnapshotStore}.
+ * Used for cold starts, offline runs and tests; never touches the network.
+ */
+@Service
+@Slf4j
+@Order(100)
+public class SnapshotF1Provider implements F1Provider {
+    private final ProviderSnapshotStore store;
+
+    public SnapshotF1Provider(final ProviderSnapshotStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Returns the recorded response for exactly these filters, or otherwise filters the recorded
+     * year-wide (or unfiltered) response in memory.
+     */
+    @Override
+    public JsonNode fetchRawSessions(Integer year, String country, String sessionType) {
+        Optional<JsonNode> exact = store.get(ProviderSnapshotStore.sessionsKey(year, country, sessionType));
+        if (exact.isPresent()) {
+            return exact.get();
+        }
+
+        Optional<JsonNode> broader = store.get(ProviderSnapshotStore.sessionsKey(year, null, null));
+        if (broader.isEmpty() && year != null) {
+            broader = store.get(ProviderSnapshotStore.sessionsKey(null, null, null));
+        }
+        if (broader.isEmpty() || !broader.get().isArray()) {
+            log.debug("No snapshot for sessions year={} country={} sessionType={}", year, country, sessionType);
+            return null;
+        }
+
+        ArrayNode filtered = JsonNodeFactory.instance.arrayNode();
+        for (JsonNode session : broader.get()) {
+            if (matches(session, "year", year == null ? null : String.valueOf(year))
+                    && matches(session, "country_name", country)
+                    && matches(session, "session_name", sessionType)) {
+                filtered.add(session);
+            }
+        }
+        return filtered;
+    }
+
+    @Override
+    public JsonNode fetchRawDriversForSession(String sessionKey) {
+        if (sessionKey == null) {
+            return null;
+        }
+        return store.get(ProviderSnapshotStore.driversKey(sessionKey)).orElse(null);
+    }
+
+    @Override
+    public JsonNode fetchRawSessionResult(String sessionKey) {
+        if (sessionKey == null) {
+            return null;
+        }
+        return store.get(ProviderSnapshotStore.sessionResultKey(sessionKey)).orElse(null);
+    }
+
+    @Override
+    public String getName() {
+        return "snapshot";
+    }
+
+    private static boolean matches(JsonNode session, String field, String expected) {
+        return expected == null || expected.isBlank() || expected.equalsIgnoreCase(session.path(field).asText());
+    }
+}
@@ -2,14 +2,27 @@ package org.example.formulaone.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.example.formulaone.util.Constants;
-import org.example.formulaone.entity.User;
+import org.example.formulaone.util.Money;
 import org.example.formulaone.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for user-related operations including balance management.
@@ -17,44 +30,154 @@ import java.util.UUID;
 @Service
 @Slf4j
 public class UserService {
+    private static final String INSERT_IF_ABSENT_SQL =
+            "insert into users (id, balance, created_at) values (?, ?, ?) on conflict do nothing";
+    private static final String WITHDRAW_IF_SUFFICIENT_SQL =
+            "update users set balance = balance - ? where id = ? and balance >= ?";
+    private static final String CREDIT_SQL = "update users set balance = balance + ? where id = ?";
+
     private final UserRepository userRepository;
+    // Batched statements for group commit and settlement; runs on the connection of the surrounding transaction
+    private final JdbcTemplate jdbcTemplate;
+    // Users are never deleted, so an ID seen in a committed transaction stays valid
+    private final Set<UUID> knownUsers = ConcurrentHashMap.newKeySet();
+    private final int knownUsersMaxSize;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, DataSource dataSource,
+            @Value("${betting.known-users.max-size:100000}") int knownUsersMaxSize) {
         this.userRepository = userRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.knownUsersMaxSize = knownUsersMaxSize;
     }
 
     /**
      * Ensures user exists, creates with gift balance if not found.
+     * Repeat bettors are answered from the known-user cache without a query; otherwise a single
+     * insert-if-absent creates the user or does nothing.
+     */
+    @Transactional
+    public void ensureUserExists(UUID userId) {
+        if (knownUsers.contains(userId)) {
+            return;
+        }
+        if (userRepository.insertIfAbsent(userId, Constants.GIFT_BALANCE.toBigDecimal(), Instant.now()) == 1) {
+            log.info("Created new user with gift balance: {}", userId);
+        }
+        rememberAfterCommit(userId);
+    }
+
+    /**
+     * Ensures all the users exist with one JDBC batch of insert-if-absent statements for those not already known.
      */
     @Transactional
-    public User ensureUserExists(UUID userId) {
-        return userRepository.findById(userId).orElseGet(() -> {
-            log.info("Creating new user with gift balance: {}", userId);
-            User user = new User(userId, Constants.GIFT_BALANCE);
-            return userRepository.save(user);
+    public void ensureUsersExist(Collection<UUID> userIds) {
+        List<Object[]> unknown = new ArrayList<>();
+        Timestamp now = Timestamp.from(Instant.now());
+        for (UUID userId : userIds) {
+            if (!knownUsers.contains(userId)) {
+                unknown.add(new Object[] { userId, Constants.GIFT_BALANCE.toBigDecimal(), now });
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        int[] created = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, unknown);
+        for (int i = 0; i < created.length; i++) {
+            UUID userId = (UUID) unknown.get(i)[0];
+            if (created[i] == 1) {
+                log.info("Created new user with gift balance: {}", userId);
+            }
+            rememberAfterCommit(userId);
+        }
+    }
+
+    /**
+     * Adds the user to the known-user cache once the row is committed, so a rolled back
+     * creation is never cached.
+     */
+    private void rememberAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(userId);
+            }
         });
     }
 
+    private void remember(UUID userId) {
+        if (knownUsers.size() >= knownUsersMaxSize) {
+            // Bounded: drop an arbitrary tenth; evicted users just cost one more insert-if-absent
+            Iterator<UUID> it = knownUsers.iterator();
+            for (int i = knownUsersMaxSize / 10; i >= 0 && it.hasNext(); i--) {
+                it.next();
+                it.remove();
+            }
+        }
+        knownUsers.add(userId);
+    }
+
     /**
      * Withdraws amount from user balance if sufficient funds available.
      * 
      * @return 1 if successful, 0 if insufficient funds
      */
     @Transactional
-    public int withdrawIfSufficient(UUID userId, BigDecimal amount) {
-        return userRepository.withdrawIfSufficient(userId, amount);
+    public int withdrawIfSufficient(UUID userId, Money amount) {
+        return userRepository.withdrawIfSufficient(userId, amount.toBigDecimal());
+    }
+
+    /**
+     * Withdraws each amount from its user's balance with one JDBC batch, in order, so several withdrawals of the
+     * same user see each other.
+     *
+     * @return per withdrawal, 1 if successful, 0 if insufficient funds
+     */
+    @Transactional
+    public int[] withdrawAllIfSufficient(List<UUID> userIds, List<Money> amounts) {
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            args.add(new Object[] { amounts.get(i).toBigDecimal(), userIds.get(i), amounts.get(i).toBigDecimal() });
+        }
+        return jdbcTemplate.batchUpdate(WITHDRAW_IF_SUFFICIENT_SQL, args);
     }
 
     /**
      * Credits amount to user balance.
      */
     @Transactional
-    public void creditBalance(UUID userId, BigDecimal amount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-        user.setBalance(user.getBalance().add(amount));
-        userRepository.save(user);
-        log.info("Credited {} to user {} balance", amount, userId);
+    public void creditBalance(UUID userId, Money amount) {
+        // Single atomic update; no need to load the user row first
+        if (userRepository.credit(userId, amount.toBigDecimal()) == 0) {
+            throw new IllegalArgumentException("User not found: " + userId);
+        }
+        log.debug("Credited {} to user {} balance", amount, userId);
+    }
+
+    /**
+     * Credits each user the given amount with one JDBC batch, in the map's iteration order.
+     *
+     * @throws IllegalArgumentException if a user does not exist
+     */
+    @Transactional
+    public void creditAll(Map<UUID, Money> amounts) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(amounts.size());
+        for (Map.Entry<UUID, Money> entry : amounts.entrySet()) {
+            args.add(new Object[] { entry.getValue().toBigDecimal(), entry.getKey() });
+        }
+        int[] credited = jdbcTemplate.batchUpdate(CREDIT_SQL, args);
+        for (int i = 0; i < credited.length; i++) {
+            if (credited[i] == 0) {
+                throw new IllegalArgumentException("User not found: " + args.get(i)[1]);
+            }
+        }
+        log.debug("Credited {} users", credited.length);
     }
 }
@@ -0,0 +1,99 @@
+package org.example.formulaone.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.ListingEventsResponseDto;
+import org.example.formulaone.dto.PlaceBetRequestDto;
+import org.example.formulaone.dto.PlaceBetResponseDto;
+import org.example.formulaone.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warms caches and hot code paths before the service accepts traffic.
+ *
+ * Application runners complete before Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC},
+ * so {@code /actuator/health/readiness} stays DOWN (and liveness UP) until this has finished.
+ * Warm-up only reads from the database; it never calls a provider. Failures and the time budget are
+ * logged but never keep the service from becoming ready.
+ */
+@Component
+@ConditionalOnProperty(name = "betting.warmup.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class WarmupService implements ApplicationRunner {
+    private final EventService eventService;
+    private final EventDriverIndex eventDriverIndex;
+    private final DriverDictionary driverDictionary;
+    private final ObjectMapper objectMapper;
+    private final int iterations;
+    private final long maxDurationMs;
+
+    @Autowired
+    public WarmupService(EventService eventService, EventDriverIndex eventDriverIndex,
+            DriverDictionary driverDictionary, ObjectMapper objectMapper,
+            @Value("${betting.warmup.iterations:200}") int iterations,
+            @Value("${betting.warmup.max-duration-ms:30000}") long maxDurationMs) {
+        this.eventService = eventService;
+        this.eventDriverIndex = eventDriverIndex;
+        this.driverDictionary = driverDictionary;
+        this.objectMapper = objectMapper;
+        this.iterations = iterations;
+        this.maxDurationMs = maxDurationMs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        long deadline = start + maxDurationMs;
+
+        try {
+            eventService.loadIndex();
+            log.info("Loaded {} drivers, {} events and {} event drivers into the index", driverDictionary.size(),
+                    eventDriverIndex.eventCount(), eventDriverIndex.driverCount());
+        } catch (RuntimeException ex) {
+            log.warn("Could not preload event index, continuing: {}", ex.getMessage());
+        }
+
+        int done = 0;
+        try {
+            while (done < iterations && System.currentTimeMillis() < deadline) {
+                exerciseHotPaths();
+                done++;
+            }
+        } catch (RuntimeException | IOException ex) {
+            log.warn("Warm-up stopped after {} iterations: {}", done, ex.getMessage());
+        }
+
+        if (done < iterations && System.currentTimeMillis() >= deadline) {
+            log.warn("Warm-up budget of {} ms exhausted after {} of {} iterations", maxDurationMs, done, iterations);
+        }
+        log.info("Warm-up finished in {} ms ({} iterations)", System.currentTimeMillis() - start, done);
+    }
+
+    /**
+     * Runs the listing queries for the hot filters (unfiltered and current year) and the
+     * request/response serialization used by bet placement.
+     */
+    private void exerciseHotPaths() throws IOException {
+        for (Integer year : new Integer[] { null, Year.now().getValue() }) {
+            List<ListingEventsResponseDto> events = eventService.listEventsFromDb(year, null, null);
+            objectMapper.writeValueAsBytes(events);
+        }
+
+        PlaceBetRequestDto request = new PlaceBetRequestDto(UUID.randomUUID(), "warmup", 1, new BigDecimal("10.00"));
+        byte[] body = objectMapper.writeValueAsBytes(request);
+        objectMapper.readValue(body, PlaceBetRequestDto.class);
+        objectMapper.writeValueAsBytes(new PlaceBetResponseDto(UUID.randomUUID(), Constants.BET_STATUS_PENDING, 3,
+                Constants.SUCCESS_BET_PLACED));
+    }
+}
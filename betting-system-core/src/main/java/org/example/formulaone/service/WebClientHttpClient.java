@@ -6,6 +6,7 @@ import org.example.formulaone.exceptions.HttpClientException;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
@@ -37,15 +38,20 @@ public class WebClientHttpClient implements IHttpClient {
         String uri = buildUri(url, queryParams);
 
         // Perform a GET request with WebClient
-        return webClient.get()
-                .uri(uri)
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .onStatus(status -> !status.is2xxSuccessful(),
-                        clientResponse -> Mono.error(
-                                new HttpClientException("Non-2xx from provider: " + clientResponse.statusCode())))
-                .bodyToMono(String.class)
-                .block();
+        try {
+            return webClient.get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .onStatus(status -> !status.is2xxSuccessful(),
+                            clientResponse -> Mono.error(
+                                    new HttpClientException("Non-2xx from provider: " + clientResponse.statusCode())))
+                    .bodyToMono(String.class)
+                    .block();
+        } catch (WebClientRequestException ex) {
+            // Connect, read and response timeouts end up here
+            throw new HttpClientException("Request to provider failed: " + ex.getMessage(), ex);
+        }
     }
 
     private String buildUri(String url, Map<String, String> queryParams) {
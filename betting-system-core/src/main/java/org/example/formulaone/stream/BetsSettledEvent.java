@@ -0,0 +1,13 @@
+package org.example.formulaone.stream;
+
+import org.example.formulaone.dto.BetStatusUpdateDto;
+import org.example.formulaone.dto.EventUpdateDto;
+
+import java.util.List;
+
+/**
+ * Published by settlement inside its transaction; streamed to subscribers once it commits.
+ * {@code outcome} is null for chunks settled by the distributed settlement workers.
+ */
+public record BetsSettledEvent(EventUpdateDto outcome, List<BetStatusUpdateDto> bets) {
+}
@@ -0,0 +1,112 @@
+package org.example.formulaone.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.dto.BetStatusUpdateDto;
+import org.example.formulaone.dto.EventUpdateDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans out bet status and event updates to Server-Sent Event subscribers.
+ * Updates are published as application events inside the writing transaction and only streamed
+ * after it commits, so clients never see a settlement or odds change that was rolled back.
+ */
+@Component
+@Slf4j
+public class StreamPublisher {
+    public static final String BET_EVENT = "bet";
+
+    private final Map<String, Set<StreamSubscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Executor executor;
+    private final Counter dropped;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    @Autowired
+    public StreamPublisher(@Qualifier("streamExecutor") Executor executor, MeterRegistry meterRegistry,
+            @Value("${betting.stream.buffer-size:256}") int bufferSize,
+            @Value("${betting.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.dropped = Counter.builder("stream.dropped")
+                .description("Stream messages dropped because a subscriber buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open stream connections")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribeUser(UUID userId) {
+        return subscribe("user:" + userId);
+    }
+
+    public SseEmitter subscribeEvent(String eventId) {
+        return subscribe("event:" + eventId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBetsSettled(BetsSettledEvent settled) {
+        if (settled.outcome() != null) {
+            publish("event:" + settled.outcome().getEventId(), settled.outcome().getType(), settled.outcome());
+        }
+        for (BetStatusUpdateDto bet : settled.bets()) {
+            publish("user:" + bet.getUserId(), BET_EVENT, bet);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventUpdate(EventUpdateDto update) {
+        publish("event:" + update.getEventId(), update.getType(), update);
+    }
+
+    private SseEmitter subscribe(String topic) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, bufferSize, executor, dropped);
+        topics.compute(topic, (t, subscribers) -> {
+            Set<StreamSubscriber> set = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+
+        AtomicInteger removed = new AtomicInteger();
+        Runnable unsubscribe = () -> {
+            if (removed.getAndIncrement() == 0) {
+                subscriber.close();
+                topics.computeIfPresent(topic, (t, subscribers) -> {
+                    subscribers.remove(subscriber);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+                subscriberCount.decrementAndGet();
+            }
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ex -> unsubscribe.run());
+        log.debug("New stream subscriber for {}", topic);
+        return emitter;
+    }
+
+    private void publish(String topic, String name, Object data) {
+        Set<StreamSubscriber> subscribers = topics.get(topic);
+        if (subscribers != null) {
+            subscribers.forEach(s -> s.offer(name, data));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.formulaone.stream;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection with its own bounded buffer.
+ * Publishers only enqueue; a single drain task per subscriber writes to the connection, so a slow
+ * client never blocks settlement or other subscribers. When the buffer is full the oldest message is dropped.
+ */
+final class StreamSubscriber {
+    private record Message(String name, Object data) {}
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> buffer;
+    private final Executor executor;
+    private final Counter dropped;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    StreamSubscriber(SseEmitter emitter, int bufferSize, Executor executor, Counter dropped) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+        this.dropped = dropped;
+    }
+
+    void offer(String name, Object data) {
+        if (closed) {
+            return;
+        }
+        Message message = new Message(name, data);
+        while (!buffer.offer(message)) {
+            if (buffer.poll() != null) {
+                dropped.increment();
+            }
+        }
+        scheduleDrain();
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Message message;
+            while (!closed && (message = buffer.poll()) != null) {
+                emitter.send(SseEmitter.event().name(message.name()).data(message.data(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter already completed; the emitter callbacks unsubscribe us
+            close();
+            emitter.completeWithError(ex);
+        } finally {
+            draining.set(false);
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.formulaone.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money amount held as a {@code long} number of minor units (cents).
+ * Used for all internal arithmetic; convert to {@link BigDecimal} only at the API and DB boundary.
+ * All arithmetic is overflow-checked and throws {@link ArithmeticException} rather than wrapping.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Converts an API/DB amount. Rejects amounts with more than two decimal places instead of rounding.
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("amount is required");
+        }
+        try {
+            return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("amount must have at most " + SCALE
+                    + " decimal places and fit in range: " + amount.toPlainString());
+        }
+    }
+
+    /**
+     * Payout for a stake at whole-number odds, in minor units, without allocating.
+     */
+    public static long multiplyByOdds(long stakeMinor, int odds) {
+        if (odds < 0) {
+            throw new IllegalArgumentException("odds must be >= 0");
+        }
+        return Math.multiplyExact(stakeMinor, odds);
+    }
+
+    public Money multiplyByOdds(int odds) {
+        return ofMinor(multiplyByOdds(minorUnits, odds));
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
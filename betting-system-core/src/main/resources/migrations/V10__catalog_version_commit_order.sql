@@ -0,0 +1,15 @@
+-- Catalog change versions follow commit order instead of insert order.
+-- Each writing transaction bumps this single-row counter just before it commits and holds the row lock until
+-- the commit, so a higher version can only be handed out after every lower one has committed. Readers of
+-- catalog_changes need no visibility lag.
+
+CREATE TABLE catalog_version (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO catalog_version (id, version)
+SELECT 1, COALESCE(MAX(version), 0) FROM catalog_changes;
+
+-- Versions are assigned by the application from the counter
+ALTER TABLE catalog_changes ALTER COLUMN version DROP IDENTITY;
@@ -0,0 +1,10 @@
+-- Replace the surrogate id on event_drivers with a composite primary key.
+-- The (event_id, driver_id) pair was already unique, so the separate unique index is redundant.
+
+ALTER TABLE event_drivers DROP CONSTRAINT event_drivers_pkey;
+ALTER TABLE event_drivers DROP CONSTRAINT event_drivers_event_id_driver_id_key;
+ALTER TABLE event_drivers DROP COLUMN id;
+ALTER TABLE event_drivers ADD CONSTRAINT event_drivers_pkey PRIMARY KEY (event_id, driver_id);
+
+-- The primary key leads with event_id, so it also serves lookups by event
+DROP INDEX IF EXISTS idx_event_drivers_event_id;
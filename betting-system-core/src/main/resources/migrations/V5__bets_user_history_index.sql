@@ -0,0 +1,10 @@
+-- Covering index for per-user bet history (GET /users/{id}/bets).
+-- Keyset pagination walks (placed_at, id) in descending order, and the INCLUDE columns hold every field
+-- the response needs, so a page is a single index range scan without heap lookups.
+-- CONCURRENTLY keeps bets writable while the index builds; run this file outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bets_user_placed ON bets (user_id, placed_at DESC, id DESC)
+    INCLUDE (event_id, driver_id, stake, odds, status, settled_at);
+
+-- Leading user_id makes the single-column index redundant
+DROP INDEX CONCURRENTLY IF EXISTS idx_bets_user_id;
@@ -0,0 +1,19 @@
+-- Work queue for distributed settlement (betting.settlement.distributed=true).
+-- One row per settled event; its totals are filled in from the settled bets when the last chunk completes.
+
+CREATE TABLE settlement_jobs (
+    event_id VARCHAR(255) PRIMARY KEY REFERENCES events(id),
+    winner_driver_id INTEGER NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'OPEN',
+    bets_settled INTEGER NOT NULL DEFAULT 0,
+    total_payout NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_settlement_jobs_open ON settlement_jobs (created_at) WHERE status = 'OPEN';
+
+-- Workers claim chunks with
+--   SELECT ... WHERE event_id = ? AND status = 'PENDING' ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+-- which this partial index serves in order; it shrinks as bets are settled.
+CREATE INDEX idx_bets_event_pending ON bets (event_id, id) WHERE status = 'PENDING';
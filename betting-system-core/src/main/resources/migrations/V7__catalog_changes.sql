@@ -0,0 +1,10 @@
+-- Versioned change log of the event catalog, served by GET /events/changes?since={version}.
+-- Rows are written in the same transaction as the change they describe.
+-- change_type: 'event' (event stored), 'odds' (drivers stored), 'outcome' (outcome set)
+
+CREATE TABLE catalog_changes (
+    version BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id VARCHAR(255) NOT NULL REFERENCES events(id),
+    change_type VARCHAR(16) NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,22 @@
+-- Driver dimension: one row per driver number, referenced by event_drivers.
+-- V2 already seeds this table; create it where it is missing and backfill from event_drivers.
+
+CREATE TABLE IF NOT EXISTS drivers (
+    id INTEGER PRIMARY KEY,
+    full_name VARCHAR(255),
+    country VARCHAR(255),
+    team VARCHAR(255)
+);
+
+INSERT INTO drivers (id, full_name)
+SELECT DISTINCT ON (driver_id) driver_id, full_name
+FROM event_drivers
+ORDER BY driver_id, full_name
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE event_drivers
+ADD CONSTRAINT fk_event_drivers_driver_id
+FOREIGN KEY (driver_id) REFERENCES drivers(id);
+
+-- Names are read from drivers now
+ALTER TABLE event_drivers DROP COLUMN full_name;
@@ -0,0 +1,5 @@
+-- The result poller looks for finished events without an outcome every poll:
+--   SELECT ... FROM events WHERE outcome_driver_id IS NULL AND start_time BETWEEN ? AND ? ORDER BY start_time
+-- Only unsettled events are indexed, so the index stays small as the season's results come in.
+
+CREATE INDEX idx_events_unsettled_start ON events (start_time) WHERE outcome_driver_id IS NULL;
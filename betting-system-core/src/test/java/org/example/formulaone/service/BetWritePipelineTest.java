@@ -0,0 +1,160 @@
+package org.example.formulaone.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.formulaone.dto.PlaceBetRequestDto;
+import org.example.formulaone.dto.PlaceBetResponseDto;
+import org.example.formulaone.exceptions.ServiceOverloadedException;
+import org.example.formulaone.util.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BetWritePipelineTest {
+    private static final BigDecimal BAD_STAKE = new BigDecimal("13.00");
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    // Every batch handed to the writer, in order
+    private final List<List<BetWritePipeline.BetRequest>> batches = new CopyOnWriteArrayList<>();
+    private BetWritePipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    private BetWritePipeline pipeline(BetWritePipeline.BatchWriter writer, int maxBatch, long flushIntervalMs,
+            long waitTimeoutMs) {
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        pipeline = new BetWritePipeline(new TransactionTemplate(transactionManager), bets -> {
+            batches.add(List.copyOf(bets));
+            return writer.write(bets);
+        }, 100, maxBatch, flushIntervalMs, waitTimeoutMs, new SimpleMeterRegistry());
+        return pipeline;
+    }
+
+    private static PlaceBetRequestDto request(BigDecimal stake) {
+        return new PlaceBetRequestDto(UUID.randomUUID(), "e1", 1, stake);
+    }
+
+    private Future<PlaceBetResponseDto> placeAsync(PlaceBetRequestDto request) {
+        return callers.submit(() -> pipeline.place(request, Money.of(request.getStake()), null));
+    }
+
+    private static List<PlaceBetResponseDto> placed(List<BetWritePipeline.BetRequest> bets) {
+        List<PlaceBetResponseDto> responses = new ArrayList<>(bets.size());
+        for (BetWritePipeline.BetRequest bet : bets) {
+            responses.add(new PlaceBetResponseDto(UUID.randomUUID(), "PENDING", 2, bet.stake().toString()));
+        }
+        return responses;
+    }
+
+    @Test
+    void failedBatchIsRetriedOneBetAtATime() throws Exception {
+        // The whole batch fails because of one bet; alone, only that bet fails
+        pipeline(bets -> {
+            if (bets.stream().anyMatch(b -> b.request().getStake().equals(BAD_STAKE))) {
+                throw new IllegalArgumentException("bad bet");
+            }
+            return placed(bets);
+        }, 3, 10_000, 5_000);
+
+        Future<PlaceBetResponseDto> first = placeAsync(request(new BigDecimal("1.00")));
+        Future<PlaceBetResponseDto> bad = placeAsync(request(BAD_STAKE));
+        Future<PlaceBetResponseDto> third = placeAsync(request(new BigDecimal("3.00")));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getMessage()).isEqualTo("1.00");
+        assertThat(third.get(5, TimeUnit.SECONDS).getMessage()).isEqualTo("3.00");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(batches).extracting(List::size).containsExactly(3, 1, 1, 1);
+    }
+
+    @Test
+    void betStillQueuedAtTimeoutIsWithdrawnAndNeverWritten() throws Exception {
+        // Flushes only on shutdown, long after the caller has given up
+        pipeline(BetWritePipelineTest::placed, 100, 60_000, 50);
+
+        Future<PlaceBetResponseDto> result = placeAsync(request(new BigDecimal("1.00")));
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceOverloadedException.class);
+        pipeline.shutdown();
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void betAlreadyInABatchAtTimeoutWaitsForItsCommit() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        pipeline(bets -> {
+            writing.countDown();
+            release.join();
+            return placed(bets);
+        }, 1, 1, 50);
+
+        Future<PlaceBetResponseDto> result = placeAsync(request(new BigDecimal("2.00")));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        // Past the caller's wait timeout while the batch is still being written
+        Thread.sleep(200);
+        assertThat(result.isDone()).isFalse();
+        release.complete(null);
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getMessage()).isEqualTo("2.00");
+    }
+
+    @Test
+    void timeoutsRacingTheFlusherNeverLoseOrDuplicateABet() throws Exception {
+        AtomicInteger written = new AtomicInteger();
+        pipeline(bets -> {
+            written.addAndGet(bets.size());
+            return placed(bets);
+        }, 8, 1, 1);
+
+        List<Future<PlaceBetResponseDto>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(placeAsync(request(new BigDecimal("1.00"))));
+        }
+        int accepted = 0;
+        for (Future<PlaceBetResponseDto> result : results) {
+            try {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isNotNull();
+                accepted++;
+            } catch (ExecutionException ex) {
+                assertThat(ex).hasCauseInstanceOf(ServiceOverloadedException.class);
+            }
+        }
+        pipeline.shutdown();
+        // Each bet is either written and reported as placed, or withdrawn and reported as overloaded
+        assertThat(written.get()).isEqualTo(accepted);
+    }
+}
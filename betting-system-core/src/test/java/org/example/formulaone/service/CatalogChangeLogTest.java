@@ -0,0 +1,145 @@
+package org.example.formulaone.service;
+
+import org.example.formulaone.entity.CatalogChange;
+import org.example.formulaone.repository.CatalogChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalog;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CatalogChangeLog.class)
+// Every transaction in these tests commits for real, so versions are handed out as in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogChangeLogTest {
+    private static final int WRITERS = 4;
+    private static final int COMMITS_PER_WRITER = 25;
+
+    @Autowired
+    private CatalogChangeLog catalogChangeLog;
+    @Autowired
+    private CatalogChangeRepository catalogChangeRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long maxVersion() {
+        return catalogChangeRepository.findAll().stream().mapToLong(CatalogChange::getVersion).max().orElse(0);
+    }
+
+    @Test
+    void concurrentCommitsGetGapFreeVersionsInCommitOrder() throws Exception {
+        long start = maxVersion();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<String> gaps = new CopyOnWriteArrayList<>();
+        try {
+            // Polls the log the way a syncing client does: a version must never show up before a lower one
+            Future<Long> reader = executor.submit(() -> {
+                long last = start;
+                boolean done = false;
+                while (!done) {
+                    done = !writing.get();
+                    for (CatalogChange change : catalogChangeRepository.findByVersionGreaterThanOrderByVersion(last,
+                            PageRequest.of(0, 1000))) {
+                        if (change.getVersion() != last + 1) {
+                            gaps.add("saw " + change.getVersion() + " after " + last);
+                        }
+                        last = change.getVersion();
+                    }
+                }
+                return last;
+            });
+
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    for (int n = 0; n < COMMITS_PER_WRITER; n++) {
+                        int i = n;
+                        String eventId = "e-" + writer + "-" + i;
+                        tx.executeWithoutResult(status -> {
+                            catalogChangeLog.eventAdded(eventId);
+                            if (i % 2 == 0) {
+                                catalogChangeLog.oddsAdded(eventId);
+                            }
+                            // Runs after the versions are taken: widens the window before the commit
+                            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                                @Override
+                                public void beforeCommit(boolean readOnly) {
+                                    LockSupport.parkNanos(1_000_000);
+                                }
+                            });
+                        });
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            long lastSeen = reader.get();
+
+            List<CatalogChange> logged = catalogChangeRepository.findByVersionGreaterThanOrderByVersion(start,
+                    PageRequest.of(0, 10_000));
+            assertThat(gaps).isEmpty();
+            assertThat(logged).hasSize(WRITERS * (COMMITS_PER_WRITER + (COMMITS_PER_WRITER + 1) / 2));
+            for (int i = 0; i < logged.size(); i++) {
+                assertThat(logged.get(i).getVersion()).isEqualTo(start + i + 1);
+            }
+            assertThat(lastSeen).isEqualTo(start + logged.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rolledBackChangesAreNotLoggedAndTakeNoVersion() {
+        long start = maxVersion();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            catalogChangeLog.eventAdded("rolled-back");
+            status.setRollbackOnly();
+        });
+        tx.executeWithoutResult(status -> catalogChangeLog.outcomeSet("committed"));
+
+        List<CatalogChange> logged = catalogChangeRepository.findByVersionGreaterThanOrderByVersion(start,
+                PageRequest.of(0, 10));
+        assertThat(logged).extracting(CatalogChange::getEventId).containsExactly("committed");
+        assertThat(logged.get(0).getVersion()).isEqualTo(start + 1);
+    }
+
+    @Test
+    void changesOutsideATransactionAreRejected() {
+        assertThatThrownBy(() -> catalogChangeLog.eventAdded("no-tx"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
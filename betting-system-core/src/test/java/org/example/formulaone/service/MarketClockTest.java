@@ -0,0 +1,99 @@
+package org.example.formulaone.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.formulaone.entity.Event;
+import org.example.formulaone.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MarketClockTest {
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MarketClock clock;
+
+    @AfterEach
+    void tearDown() {
+        if (clock != null) {
+            clock.shutdown();
+        }
+    }
+
+    private MarketClock clock(long retentionMs) {
+        clock = new MarketClock(eventRepository, meterRegistry, 5, 8, 0, retentionMs);
+        return clock;
+    }
+
+    private static Event event(String id, Instant startTime) {
+        Event event = new Event();
+        event.setId(id);
+        event.setStartTime(startTime);
+        return event;
+    }
+
+    private double openGauge() {
+        return meterRegistry.get("betting.markets.open").gauge().value();
+    }
+
+    @Test
+    void eventThatAlreadyStartedIsReadOnceAndStaysClosed() throws InterruptedException {
+        when(eventRepository.findById("e1"))
+                .thenReturn(Optional.of(event("e1", Instant.now().minus(Duration.ofDays(30)))));
+        MarketClock clock = clock(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(clock.isOpen("e1")).isFalse();
+            Thread.sleep(20); // several ticks and retention periods
+        }
+
+        verify(eventRepository, times(1)).findById("e1");
+        assertThat(clock.trackedMarkets()).isZero();
+        assertThat(openGauge()).isZero();
+    }
+
+    @Test
+    void unknownEventIsNotOpen() {
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+        MarketClock clock = clock(10);
+
+        assertThat(clock.isOpen("missing")).isFalse();
+        assertThat(clock.isOpen(null)).isFalse();
+        assertThat(clock.trackedMarkets()).isZero();
+    }
+
+    @Test
+    void marketClosesAtStartAndIsNotReadAgainAfterEviction() throws InterruptedException {
+        MarketClock clock = clock(10);
+        clock.schedule("e2", Instant.now().plusMillis(50));
+        assertThat(clock.isOpen("e2")).isTrue();
+        assertThat(openGauge()).isEqualTo(1.0);
+
+        Thread.sleep(200);
+
+        assertThat(clock.isOpen("e2")).isFalse();
+        assertThat(clock.trackedMarkets()).isZero();
+        assertThat(openGauge()).isZero();
+        verify(eventRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void eventWithoutStartTimeStaysOpen() {
+        when(eventRepository.findById("e3")).thenReturn(Optional.of(event("e3", null)));
+        MarketClock clock = clock(60_000);
+
+        assertThat(clock.isOpen("e3")).isTrue();
+        assertThat(clock.isOpen("e3")).isTrue();
+        verify(eventRepository, times(1)).findById("e3");
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.formulaone.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stand-in for the OpenF1 API serving {@code /v1/sessions} and {@code /v1/drivers}.
+ * Latency, 5xx error rate and 429 rate are configurable so provider failure modes can be load tested
+ * without touching the real API. Sessions are generated in the future so markets stay open.
+ */
+@Slf4j
+public class FakeOpenF1Server implements AutoCloseable {
+    private static final String[][] DRIVERS = {
+            { "1", "Max VERSTAPPEN" }, { "11", "Sergio PEREZ" }, { "44", "Lewis HAMILTON" },
+            { "63", "George RUSSELL" }, { "16", "Charles LECLERC" }, { "55", "Carlos SAINZ" },
+            { "4", "Lando NORRIS" }, { "81", "Oscar PIASTRI" }, { "14", "Fernando ALONSO" },
+            { "18", "Lance STROLL" }, { "10", "Pierre GASLY" }, { "31", "Esteban OCON" },
+            { "23", "Alexander ALBON" }, { "2", "Logan SARGEANT" }, { "22", "Yuki TSUNODA" },
+            { "3", "Daniel RICCIARDO" }, { "77", "Valtteri BOTTAS" }, { "24", "Zhou GUANYU" },
+            { "20", "Kevin MAGNUSSEN" }, { "27", "Nico HULKENBERG" },
+    };
+    private static final String[] COUNTRIES = {
+            "Bahrain", "Saudi Arabia", "Australia", "Japan", "China", "United States",
+            "Italy", "Monaco", "Canada", "Spain", "Austria", "United Kingdom",
+    };
+    private static final String[] SESSION_NAMES = { "Practice 1", "Qualifying", "Race" };
+
+    private final HttpServer server;
+    private final LoadTestConfig config;
+    private final List<Map<String, Object>> sessions = new ArrayList<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injected429s = new AtomicLong();
+
+    public FakeOpenF1Server(LoadTestConfig config) throws IOException {
+        this.config = config;
+        generateSessions();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", config.fakePort()), 1024);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/v1/sessions", this::handleSessions);
+        this.server.createContext("/v1/drivers", this::handleDrivers);
+    }
+
+    public void start() {
+        server.start();
+        log.info("Fake OpenF1 listening on {} ({} sessions, latency {}ms +/- {}ms, error rate {}, 429 rate {})",
+                baseUrl(), sessions.size(), config.fakeLatencyMs(), config.fakeJitterMs(),
+                config.fakeErrorRate(), config.fake429Rate());
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String stats() {
+        return String.format("requests=%d injected5xx=%d injected429=%d", requests.get(), injectedErrors.get(),
+                injected429s.get());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void generateSessions() {
+        Instant weekend = Instant.now().plus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        int sessionKey = 20000;
+        for (int m = 0; m < config.meetings(); m++) {
+            for (int s = 0; s < SESSION_NAMES.length; s++) {
+                Map<String, Object> session = new HashMap<>();
+                session.put("session_key", sessionKey++);
+                session.put("meeting_key", 3000 + m);
+                session.put("session_name", SESSION_NAMES[s]);
+                session.put("session_type", SESSION_NAMES[s].startsWith("Practice") ? "Practice" : SESSION_NAMES[s]);
+                session.put("country_name", COUNTRIES[m % COUNTRIES.length]);
+                session.put("circuit_short_name", COUNTRIES[m % COUNTRIES.length]);
+                session.put("year", config.year());
+                session.put("date_start", weekend.plus(s * 24L, ChronoUnit.HOURS).atOffset(ZoneOffset.UTC).toString());
+                sessions.add(session);
+            }
+            weekend = weekend.plus(7, ChronoUnit.DAYS);
+        }
+    }
+
+    private void handleSessions(HttpExchange exchange) throws IOException {
+        if (injectFault(exchange)) {
+            return;
+        }
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        StringBuilder sb = new StringBuilder("[");
+        for (Map<String, Object> session : sessions) {
+            if (!matches(session, "year", query.get("year"))
+                    || !matches(session, "country_name", query.get("country_name"))
+                    || !matches(session, "session_name", query.get("session_name"))) {
+                continue;
+            }
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append("{\"session_key\":").append(session.get("session_key"))
+                    .append(",\"meeting_key\":").append(session.get("meeting_key"))
+                    .append(",\"session_name\":\"").append(session.get("session_name"))
+                    .append("\",\"session_type\":\"").append(session.get("session_type"))
+                    .append("\",\"country_name\":\"").append(session.get("country_name"))
+                    .append("\",\"circuit_short_name\":\"").append(session.get("circuit_short_name"))
+                    .append("\",\"date_start\":\"").append(session.get("date_start"))
+                    .append("\",\"year\":").append(session.get("year")).append('}');
+        }
+        respond(exchange, 200, sb.append(']').toString());
+    }
+
+    private void handleDrivers(HttpExchange exchange) throws IOException {
+        if (injectFault(exchange)) {
+            return;
+        }
+        String sessionKey = parseQuery(exchange.getRequestURI().getRawQuery()).getOrDefault("session_key", "0");
+        StringBuilder sb = new StringBuilder("[");
+        for (String[] driver : DRIVERS) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append("{\"session_key\":").append(sessionKey)
+                    .append(",\"driver_number\":").append(driver[0])
+                    .append(",\"full_name\":\"").append(driver[1]).append("\"}");
+        }
+        respond(exchange, 200, sb.append(']').toString());
+    }
+
+    /**
+     * Applies configured latency, then possibly answers with an injected 429 or 500.
+     *
+     * @return true if a fault response was sent
+     */
+    private boolean injectFault(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = config.fakeLatencyMs();
+        if (config.fakeJitterMs() > 0) {
+            latency += random.nextLong(-config.fakeJitterMs(), config.fakeJitterMs() + 1);
+        }
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        double roll = random.nextDouble();
+        if (roll < config.fake429Rate()) {
+            injected429s.incrementAndGet();
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            respond(exchange, 429, "{\"error\":\"rate limited\"}");
+            return true;
+        }
+        if (roll < config.fake429Rate() + config.fakeErrorRate()) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, 500, "{\"error\":\"injected failure\"}");
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean matches(Map<String, Object> session, String key, String expected) {
+        return expected == null || expected.equalsIgnoreCase(String.valueOf(session.get(key)));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.formulaone.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-request latencies and response codes for one scenario.
+ * Latency is measured from the request's scheduled start, so queueing in the harness
+ * is not hidden (no coordinated omission).
+ */
+public class LatencyRecorder {
+    private final String name;
+    private final Map<Integer, AtomicLong> statusCounts = new TreeMap<>();
+    private long[] latenciesNanos = new long[1 << 16];
+    private int count;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long latencyNanos, int status) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        statusCounts.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+    }
+
+    public synchronized String report(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        return String.format("%-8s n=%-7d %8.1f req/s  p50=%7.2fms p90=%7.2fms p99=%7.2fms p99.9=%7.2fms max=%7.2fms  status=%s",
+                name, count, count / elapsedSeconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                millis(percentile(sorted, 0.99)), millis(percentile(sorted, 0.999)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]), statusCounts);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,240 @@
+package org.example.formulaone.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.formulaone.FormulaOneApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Local end-to-end load harness.
+ * Starts a fake OpenF1 server and (unless {@code --target-url} is given) the betting service itself
+ * against H2 or a local Postgres, then drives /events/list, /bets/place and /events/{id}/outcome at
+ * fixed open-model rates and prints throughput and latency percentiles per endpoint.
+ *
+ * Example:
+ * java -jar betting-system-loadtest.jar --bet-rate=500 --list-rate=50 --duration=60 --fake-429-rate=0.05
+ */
+@Slf4j
+public class LoadHarness {
+    private static final String[] SESSION_TYPES = { "Practice", "Qualifying", "Race" };
+
+    private final LoadTestConfig config;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<EventTarget> events = new ArrayList<>();
+    private final ConcurrentLinkedQueue<EventTarget> unsettled = new ConcurrentLinkedQueue<>();
+    private final List<UUID> users = new ArrayList<>();
+    private String baseUrl;
+
+    private record EventTarget(String eventId, String country, List<Integer> driverIds) {}
+
+    public LoadHarness(LoadTestConfig config) {
+        this.config = config;
+        for (int i = 0; i < config.users(); i++) {
+            users.add(UUID.randomUUID());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadHarness(LoadTestConfig.fromArgs(args)).run();
+    }
+
+    public void run() throws Exception {
+        try (FakeOpenF1Server fake = new FakeOpenF1Server(config)) {
+            fake.start();
+
+            ConfigurableApplicationContext app = null;
+            if (config.targetUrl() == null) {
+                app = startService(fake.baseUrl());
+                baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            } else {
+                baseUrl = config.targetUrl();
+                log.info("Driving external service at {}; point its openf1.base-url at {}", baseUrl, fake.baseUrl());
+            }
+
+            try {
+                loadCatalog();
+                runScenarios();
+                log.info("Fake OpenF1: {}", fake.stats());
+            } finally {
+                requestExecutor.shutdownNow();
+                if (app != null) {
+                    app.close();
+                }
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startService(String fakeBaseUrl) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("openf1.base-url", fakeBaseUrl);
+        props.put("spring.datasource.url", config.jdbcUrl());
+        props.put("spring.datasource.username", config.jdbcUser());
+        props.put("spring.datasource.password", config.jdbcPassword());
+        props.put("spring.datasource.driver-class-name",
+                config.jdbcUrl().startsWith("jdbc:h2:") ? "org.h2.Driver" : "org.postgresql.Driver");
+        props.put("spring.jpa.show-sql", false);
+        props.put("logging.level.org.example.formulaone", "WARN");
+
+        // Passed as command line arguments so they take precedence over application.yml
+        String[] args = props.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        log.info("Starting betting service in-process against {}", config.jdbcUrl());
+        return new SpringApplicationBuilder(FormulaOneApplication.class).run(args);
+    }
+
+    /**
+     * Loads the catalog once through the API so later requests reference real event and driver IDs.
+     */
+    private void loadCatalog() throws Exception {
+        HttpResponse<String> response = http.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/events/list?year=" + config.year())).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Catalog load failed with status " + response.statusCode());
+        }
+
+        for (JsonNode event : mapper.readTree(response.body())) {
+            List<Integer> driverIds = new ArrayList<>();
+            event.path("drivers").forEach(d -> driverIds.add(d.path("driverId").asInt()));
+            if (!driverIds.isEmpty()) {
+                events.add(new EventTarget(event.path("eventId").asText(), event.path("country").asText(), driverIds));
+            }
+        }
+        if (events.isEmpty()) {
+            throw new IllegalStateException("Catalog is empty; is the fake OpenF1 server reachable from the service?");
+        }
+
+        List<EventTarget> shuffled = new ArrayList<>(events);
+        Collections.shuffle(shuffled);
+        unsettled.addAll(shuffled);
+        log.info("Loaded {} events for year {}", events.size(), config.year());
+    }
+
+    private void runScenarios() throws InterruptedException {
+        LatencyRecorder list = new LatencyRecorder("list");
+        LatencyRecorder bet = new LatencyRecorder("bet");
+        LatencyRecorder outcome = new LatencyRecorder("outcome");
+
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(config.durationSec());
+        List<Thread> dispatchers = List.of(
+                dispatcher("list", config.listRate(), endNanos, list, this::listRequest),
+                dispatcher("bet", config.betRate(), endNanos, bet, this::betRequest),
+                dispatcher("outcome", config.outcomeRate(), endNanos, outcome, this::outcomeRequest));
+        for (Thread t : dispatchers) {
+            t.join();
+        }
+        requestExecutor.shutdown();
+        requestExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+
+        log.info("Load test finished after {}s", String.format("%.1f", elapsed));
+        System.out.println(list.report(elapsed));
+        System.out.println(bet.report(elapsed));
+        System.out.println(outcome.report(elapsed));
+    }
+
+    /**
+     * Issues requests at a fixed rate until {@code endNanos}, each on its own virtual thread.
+     * Latency is measured from the scheduled send time, not the actual one.
+     */
+    private Thread dispatcher(String name, double ratePerSecond, long endNanos, LatencyRecorder recorder,
+            Supplier<HttpRequest> requests) {
+        return Thread.ofPlatform().name("dispatch-" + name).start(() -> {
+            if (ratePerSecond <= 0) {
+                return;
+            }
+            long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+            long next = System.nanoTime();
+            while (next < endNanos) {
+                long scheduled = next;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                HttpRequest request = requests.get();
+                if (request != null) {
+                    requestExecutor.execute(() -> send(request, scheduled, recorder));
+                }
+                next += intervalNanos;
+            }
+        });
+    }
+
+    private void send(HttpRequest request, long scheduledNanos, LatencyRecorder recorder) {
+        int status;
+        try {
+            status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception ex) {
+            status = -1;
+        }
+        recorder.record(System.nanoTime() - scheduledNanos, status);
+    }
+
+    private HttpRequest listRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder uri = new StringBuilder(baseUrl).append("/events/list?year=").append(config.year());
+        switch (random.nextInt(3)) {
+            case 1 -> uri.append("&country=").append(
+                    URLEncoder.encode(events.get(random.nextInt(events.size())).country(), StandardCharsets.UTF_8));
+            case 2 -> uri.append("&sessionType=").append(SESSION_TYPES[random.nextInt(SESSION_TYPES.length)]);
+            default -> { }
+        }
+        return HttpRequest.newBuilder(URI.create(uri.toString())).GET().build();
+    }
+
+    private HttpRequest betRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        EventTarget event = events.get(random.nextInt(events.size()));
+        int driverId = event.driverIds().get(random.nextInt(event.driverIds().size()));
+        String body = String.format("{\"userId\":\"%s\",\"eventId\":\"%s\",\"driverId\":%d,\"stake\":%d.%02d}",
+                users.get(random.nextInt(users.size())), event.eventId(), driverId,
+                1 + random.nextInt(5), random.nextInt(100));
+        return json(baseUrl + "/bets/place", body);
+    }
+
+    private HttpRequest outcomeRequest() {
+        EventTarget event = unsettled.poll();
+        if (event == null) {
+            return null;
+        }
+        int winner = event.driverIds().get(ThreadLocalRandom.current().nextInt(event.driverIds().size()));
+        return json(baseUrl + "/events/" + event.eventId() + "/outcome", "{\"winnerDriverId\":" + winner + "}");
+    }
+
+    private static HttpRequest json(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.formulaone.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test options, parsed from {@code --key=value} command line arguments.
+ *
+ * @param targetUrl     base URL of an already running service; if null the service is started in-process
+ * @param jdbcUrl       datasource for the in-process service (H2 in PostgreSQL mode by default)
+ * @param listRate      /events/list requests per second
+ * @param betRate       /bets/place requests per second
+ * @param outcomeRate   /events/{id}/outcome requests per second
+ * @param durationSec   length of the measured phase
+ * @param users         number of distinct bettors
+ * @param fakeLatencyMs base latency of the fake OpenF1 server
+ */
+public record LoadTestConfig(
+        String targetUrl,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        int year,
+        int meetings,
+        double listRate,
+        double betRate,
+        double outcomeRate,
+        int durationSec,
+        int users,
+        int fakePort,
+        long fakeLatencyMs,
+        long fakeJitterMs,
+        double fakeErrorRate,
+        double fake429Rate) {
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                opts.put(arg.substring(2), "true");
+            } else {
+                opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+
+        return new LoadTestConfig(
+                opts.get("target-url"),
+                opts.getOrDefault("jdbc-url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+                opts.getOrDefault("jdbc-user", "sa"),
+                opts.getOrDefault("jdbc-password", ""),
+                Integer.parseInt(opts.getOrDefault("year", "2030")),
+                Integer.parseInt(opts.getOrDefault("meetings", "8")),
+                Double.parseDouble(opts.getOrDefault("list-rate", "20")),
+                Double.parseDouble(opts.getOrDefault("bet-rate", "100")),
+                Double.parseDouble(opts.getOrDefault("outcome-rate", "0.2")),
+                Integer.parseInt(opts.getOrDefault("duration", "30")),
+                Integer.parseInt(opts.getOrDefault("users", "500")),
+                Integer.parseInt(opts.getOrDefault("fake-port", "0")),
+                Long.parseLong(opts.getOrDefault("fake-latency-ms", "50")),
+                Long.parseLong(opts.getOrDefault("fake-jitter-ms", "20")),
+                Double.parseDouble(opts.getOrDefault("fake-error-rate", "0.0")),
+                Double.parseDouble(opts.getOrDefault("fake-429-rate", "0.0")));
+    }
+}